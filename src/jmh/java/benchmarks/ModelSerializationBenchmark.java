@@ -0,0 +1,51 @@
+package benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import models.swager.FullUser;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import utils.Json;
+import utils.RandomTestData;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ModelSerializationBenchmark {
+    private final ObjectMapper defaultMapper = new ObjectMapper();
+    private FullUser user;
+    private byte[] json;
+
+    @Setup
+    public void setUp() throws IOException {
+        user = RandomTestData.getRandomUserWithGames();
+        json = Json.mapper().writeValueAsBytes(user);
+    }
+
+    @Benchmark
+    public byte[] serializeUserWithGames() throws IOException {
+        return Json.writer(FullUser.class).writeValueAsBytes(user);
+    }
+
+    @Benchmark
+    public FullUser deserializeUserWithGames() throws IOException {
+        return Json.reader(FullUser.class).readValue(json);
+    }
+
+    @Benchmark
+    public byte[] serializeUserWithGamesDefaultMapper() throws IOException {
+        return defaultMapper.writeValueAsBytes(user);
+    }
+
+    @Benchmark
+    public FullUser deserializeUserWithGamesDefaultMapper() throws IOException {
+        return defaultMapper.readValue(json, FullUser.class);
+    }
+}
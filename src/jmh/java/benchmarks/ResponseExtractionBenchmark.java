@@ -0,0 +1,68 @@
+package benchmarks;
+
+import assertions.ResponseView;
+import assertions.conditions.MessageCondition;
+import io.restassured.path.json.JsonPath;
+import models.swager.FullUser;
+import models.swager.Info;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import utils.Json;
+import utils.RandomTestData;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Extraction paths used by AssertableResponse: REST Assured's jsonPath against the parsed
+ * tree in ResponseView, and the full cost of MessageCondition on a fresh response.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ResponseExtractionBenchmark {
+    private static final MessageCondition USER_CREATED = new MessageCondition("User created");
+
+    private byte[] infoJson;
+    private byte[] userJson;
+    private String userJsonText;
+
+    @Setup
+    public void setUp() throws IOException {
+        infoJson = Json.mapper().writeValueAsBytes(Map.of("info",
+                Info.builder().status("success").message("User created").build()));
+        userJson = Json.mapper().writeValueAsBytes(RandomTestData.getRandomUserWithGames());
+        userJsonText = new String(userJson, StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public FullUser jsonPathUser() {
+        return new JsonPath(userJsonText).getObject("", FullUser.class);
+    }
+
+    @Benchmark
+    public FullUser responseViewUser() {
+        return ResponseView.of(200, "application/json", 0, userJson).as(FullUser.class);
+    }
+
+    @Benchmark
+    public void responseViewChainedExtraction(Blackhole blackhole) {
+        ResponseView view = ResponseView.of(200, "application/json", 0, userJson);
+        blackhole.consume(view.as("login", String.class));
+        blackhole.consume(view.as("games[0].title", String.class));
+        blackhole.consume(view.as(FullUser.class));
+    }
+
+    @Benchmark
+    public void messageConditionCheck() {
+        USER_CREATED.check(ResponseView.of(201, "application/json", 0, infoJson));
+    }
+}
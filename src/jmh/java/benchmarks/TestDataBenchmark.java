@@ -0,0 +1,25 @@
+package benchmarks;
+
+import models.swager.FullUser;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import utils.RandomTestData;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class TestDataBenchmark {
+
+    @Benchmark
+    public FullUser randomUserWithGames() {
+        return RandomTestData.getRandomUserWithGames();
+    }
+
+    @Benchmark
+    public FullUser randomUser() {
+        return RandomTestData.getRandomUser();
+    }
+}
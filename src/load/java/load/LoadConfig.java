@@ -0,0 +1,54 @@
+package load;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+@Getter
+@Builder
+public class LoadConfig {
+    private final String scenario;
+    private final int concurrency;
+    private final Duration duration;
+    private final Duration warmup;
+    private final Path file;
+
+    /**
+     * Parses {@code --key=value} arguments: scenario, concurrency, duration, warmup, file.
+     * Durations accept {@code ms}, {@code s} and {@code m} suffixes.
+     */
+    public static LoadConfig parse(String[] args) {
+        Map<String, String> values = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Expected --key=value, got " + arg);
+            }
+            int separator = arg.indexOf('=');
+            values.put(arg.substring(2, separator), arg.substring(separator + 1));
+        }
+        return LoadConfig.builder()
+                .scenario(values.getOrDefault("scenario", Scenarios.USER_LIFECYCLE))
+                .concurrency(Integer.parseInt(values.getOrDefault("concurrency", "8")))
+                .duration(duration(values.getOrDefault("duration", "30s")))
+                .warmup(duration(values.getOrDefault("warmup", "5s")))
+                .file(Path.of(values.getOrDefault("file", "src/test/resources/testPictures.jpg")))
+                .build();
+    }
+
+    private static Duration duration(String value) {
+        if (value.endsWith("ms")) {
+            return Duration.ofMillis(Long.parseLong(value.substring(0, value.length() - 2)));
+        }
+        if (value.endsWith("s")) {
+            return Duration.ofSeconds(Long.parseLong(value.substring(0, value.length() - 1)));
+        }
+        if (value.endsWith("m")) {
+            return Duration.ofMinutes(Long.parseLong(value.substring(0, value.length() - 1)));
+        }
+        return Duration.ofSeconds(Long.parseLong(value));
+    }
+}
@@ -0,0 +1,73 @@
+package load;
+
+import stub.StubApiServer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Runs one scenario from {@link Scenarios} with a fixed number of workers for a fixed time
+ * and prints throughput and latency percentiles per endpoint. With {@code api.transport=jdk}
+ * the scenarios run on the JDK HTTP client instead of REST Assured.
+ */
+public class LoadGenerator {
+    private final LoadConfig config;
+    private final Recorder recorder = new Recorder();
+    private final LongAdder failedIterations = new LongAdder();
+
+    public LoadGenerator(LoadConfig config) {
+        this.config = config;
+    }
+
+    public static void main(String[] args) throws Exception {
+        // every iteration logs in, there is no point keeping all those tokens
+        System.setProperty("api.tokenCache", System.getProperty("api.tokenCache", "false"));
+        // retries would hide the errors and latency the run is meant to measure
+        System.setProperty("api.resilience", System.getProperty("api.resilience", "false"));
+        try {
+            new LoadGenerator(LoadConfig.parse(args)).run();
+        } finally {
+            StubApiServer.stopShared();
+        }
+    }
+
+    public void run() throws Exception {
+        Scenarios.Scenario scenario = Scenarios.byName(config);
+        long start = System.nanoTime();
+        long measureFrom = start + config.getWarmup().toNanos();
+        long deadline = measureFrom + config.getDuration().toNanos();
+
+        ExecutorService workers = Executors.newFixedThreadPool(config.getConcurrency());
+        List<Future<?>> running = new ArrayList<>();
+        for (int i = 0; i < config.getConcurrency(); i++) {
+            running.add(workers.submit(() -> loop(scenario, deadline)));
+        }
+        Thread.sleep(config.getWarmup().toMillis());
+        recorder.startMeasuring();
+        long measuredStart = System.nanoTime();
+        for (Future<?> future : running) {
+            future.get();
+        }
+        workers.shutdown();
+        long measuredMillis = Math.max(1, (System.nanoTime() - measuredStart) / 1_000_000);
+
+        System.out.printf("scenario=%s concurrency=%d duration=%ds warmup=%ds failed iterations=%d%n",
+                config.getScenario(), config.getConcurrency(), config.getDuration().toSeconds(),
+                config.getWarmup().toSeconds(), failedIterations.sum());
+        recorder.print(System.out, measuredMillis);
+    }
+
+    private void loop(Scenarios.Scenario scenario, long deadline) {
+        while (System.nanoTime() < deadline) {
+            try {
+                scenario.run(recorder);
+            } catch (Exception | AssertionError e) {
+                failedIterations.increment();
+            }
+        }
+    }
+}
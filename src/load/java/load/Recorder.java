@@ -0,0 +1,77 @@
+package load;
+
+import assertions.AssertableResponse;
+import utils.LatencyHistogram;
+
+import java.io.PrintStream;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import static assertions.Conditions.hasStatusCode;
+
+/**
+ * Per-endpoint latency and error counts. Samples taken before {@link #startMeasuring()} are
+ * discarded as warm-up.
+ */
+public class Recorder {
+    private final Map<String, Endpoint> endpoints = new ConcurrentHashMap<>();
+    private volatile boolean measuring;
+
+    public void startMeasuring() {
+        measuring = true;
+    }
+
+    public AssertableResponse call(String endpoint, int expectedStatus, Callable<AssertableResponse> call) throws Exception {
+        return time(endpoint, () -> call.call().should(hasStatusCode(expectedStatus)));
+    }
+
+    public <T> T time(String endpoint, Callable<T> call) throws Exception {
+        long start = System.nanoTime();
+        try {
+            T result = call.call();
+            sample(endpoint, start, false);
+            return result;
+        } catch (Exception | AssertionError e) {
+            sample(endpoint, start, true);
+            throw e;
+        }
+    }
+
+    public void print(PrintStream out, long measuredMillis) {
+        double seconds = measuredMillis / 1000.0;
+        out.printf("%-36s %9s %7s %10s %9s %9s %9s %9s %9s%n",
+                "endpoint", "count", "errors", "req/s", "p50 ms", "p95 ms", "p99 ms", "p999 ms", "max ms");
+        new TreeMap<>(endpoints).forEach((name, endpoint) -> {
+            LatencyHistogram histogram = endpoint.histogram;
+            out.printf("%-36s %9d %7d %10.1f %9.2f %9.2f %9.2f %9.2f %9.2f%n",
+                    name, histogram.count(), endpoint.errors.sum(), histogram.count() / seconds,
+                    millis(histogram.percentile(50)), millis(histogram.percentile(95)),
+                    millis(histogram.percentile(99)), millis(histogram.percentile(99.9)),
+                    millis(histogram.max()));
+        });
+    }
+
+    private void sample(String endpoint, long start, boolean failed) {
+        if (!measuring) {
+            return;
+        }
+        Endpoint stats = endpoints.computeIfAbsent(endpoint, name -> new Endpoint());
+        stats.histogram.record(TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - start));
+        if (failed) {
+            stats.errors.increment();
+        }
+    }
+
+    private static double millis(long micros) {
+        return micros / 1000.0;
+    }
+
+    private static class Endpoint {
+        private final LatencyHistogram histogram = new LatencyHistogram();
+        private final LongAdder errors = new LongAdder();
+    }
+}
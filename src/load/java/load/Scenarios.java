@@ -0,0 +1,57 @@
+package load;
+
+import models.swager.FullUser;
+import services.FileService;
+import services.Transports;
+import services.UserService;
+import utils.RandomTestData;
+
+import java.util.Map;
+
+public class Scenarios {
+    public static final String USER_LIFECYCLE = "user-lifecycle";
+    public static final String ADMIN_READ = "admin-read";
+    public static final String FILES = "files";
+
+    private Scenarios() {
+    }
+
+    public static Scenario byName(LoadConfig config) {
+        UserService userService = new UserService(Transports.raw());
+        FileService fileService = new FileService(Transports.raw());
+        Map<String, Scenario> scenarios = Map.of(
+                USER_LIFECYCLE, recorder -> userLifecycle(userService, recorder),
+                ADMIN_READ, recorder -> adminRead(userService, recorder),
+                FILES, recorder -> files(fileService, config, recorder));
+        Scenario scenario = scenarios.get(config.getScenario());
+        if (scenario == null) {
+            throw new IllegalArgumentException("Unknown scenario " + config.getScenario() + ", expected one of " + scenarios.keySet());
+        }
+        return scenario;
+    }
+
+    private static void userLifecycle(UserService userService, Recorder recorder) throws Exception {
+        FullUser user = RandomTestData.getRandomUser();
+        recorder.call("POST api/signup", 201, () -> userService.register(user));
+        String token = recorder.call("POST api/login", 200, () -> userService.auth(user)).asJwt();
+        recorder.call("GET api/user", 200, () -> userService.getUserInfo(token));
+        recorder.call("PUT api/user", 200, () -> userService.updatePass("newpassUpdated", token));
+        recorder.call("DELETE api/user", 200, () -> userService.deleteUser(token));
+    }
+
+    private static void adminRead(UserService userService, Recorder recorder) throws Exception {
+        String token = recorder.call("POST api/login", 200, () -> userService.auth(RandomTestData.getAdminUser())).asJwt();
+        recorder.call("GET api/user", 200, () -> userService.getUserInfo(token));
+        recorder.time("GET api/users", userService::countUsers);
+    }
+
+    private static void files(FileService fileService, LoadConfig config, Recorder recorder) throws Exception {
+        recorder.call("POST api/files/upload", 200, () -> fileService.uploadFile(config.getFile()));
+        recorder.time("GET api/files/downloadLastUploaded", fileService::downloadLastFileDigest);
+    }
+
+    @FunctionalInterface
+    public interface Scenario {
+        void run(Recorder recorder) throws Exception;
+    }
+}
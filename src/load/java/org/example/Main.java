@@ -0,0 +1,12 @@
+package org.example;
+
+import load.LoadGenerator;
+
+/**
+ * Entry point of the {@code loadTest} task, see {@link LoadGenerator} for the options.
+ */
+public class Main {
+    public static void main(String[] args) throws Exception {
+        LoadGenerator.main(args);
+    }
+}
@@ -2,40 +2,66 @@ package assertions;
 
 import io.restassured.response.Response;
 import io.restassured.response.ValidatableResponse;
-import lombok.RequiredArgsConstructor;
 
 import java.util.List;
+import java.util.stream.Stream;
 
-@RequiredArgsConstructor
 public class AssertableResponse {
-    private final ValidatableResponse response;
+    private final ResponseView response;
+
+    public AssertableResponse(ValidatableResponse response) {
+        this(ResponseView.of(response));
+    }
+
+    public AssertableResponse(ResponseView response) {
+        this.response = response;
+    }
 
     public AssertableResponse should(Condition condition){
         condition.check(response);
         return this;
     }
 
+    public int statusCode(){
+        return response.statusCode();
+    }
+
+    public byte[] asByteArray(){
+        return response.body();
+    }
+
     public String asJwt(){
-        return response.extract().jsonPath().getString("token");
+        return response.as("token", String.class);
     }
 
     public <T> T as(Class<T> tClass){
-        return response.extract().as(tClass);
+        return response.as(tClass);
     }
 
     public <T> T as(String jsonPath, Class<T> tClass){
-        return response.extract().jsonPath().getObject(jsonPath, tClass);
+        return response.as(jsonPath, tClass);
     }
 
     public <T> List<T> asList(Class<T> tClass){
-        return response.extract().jsonPath().getList("", tClass);
+        return response.asList("", tClass);
     }
     public <T> List<T> asList(String jsonPath, Class<T> tClass){
-        return response.extract().jsonPath().getList(jsonPath, tClass);
+        return response.asList(jsonPath, tClass);
+    }
+
+    public <T> Stream<T> asStream(Class<T> tClass){
+        return response.stream(tClass);
     }
 
+    /**
+     * The REST Assured response; not available for responses from {@link services.JdkHttpTransport}.
+     */
     public Response asResponse(){
-        return response.extract().response();
+        return response.raw();
+    }
+
+    public ResponseView view(){
+        return response;
     }
 
 }
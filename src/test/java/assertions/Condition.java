@@ -1,7 +1,5 @@
 package assertions;
 
-import io.restassured.response.ValidatableResponse;
-
 public interface Condition {
-    void check(ValidatableResponse response);
+    void check(ResponseView response);
 }
@@ -1,8 +1,13 @@
 package assertions;
 
 import assertions.conditions.MessageCondition;
+import assertions.conditions.PercentileCondition;
+import assertions.conditions.ResponseTimeCondition;
+import assertions.conditions.SchemaCondition;
 import assertions.conditions.StatusCodeCondition;
 
+import java.time.Duration;
+
 public class Conditions {
     public static MessageCondition hasMessage(String expectedMessage){
         return new MessageCondition(expectedMessage);
@@ -11,4 +16,28 @@ public class Conditions {
     public static StatusCodeCondition hasStatusCode(Integer expectedStatus){
         return new StatusCodeCondition(expectedStatus);
     }
+
+    public static ResponseTimeCondition respondsWithin(Duration maxTime){
+        return new ResponseTimeCondition(maxTime);
+    }
+
+    public static PercentileCondition percentileWithin(double percentile, Duration maxTime){
+        return new PercentileCondition(percentile, maxTime);
+    }
+
+    public static SchemaCondition matchesSchema(Class<?> modelClass){
+        return matchesSchema("", modelClass);
+    }
+
+    public static SchemaCondition matchesSchema(String jsonPath, Class<?> modelClass){
+        return new SchemaCondition(jsonPath, ModelSchema.of(modelClass));
+    }
+
+    public static SchemaCondition matchesStrictSchema(Class<?> modelClass){
+        return matchesStrictSchema("", modelClass);
+    }
+
+    public static SchemaCondition matchesStrictSchema(String jsonPath, Class<?> modelClass){
+        return new SchemaCondition(jsonPath, ModelSchema.strict(modelClass));
+    }
 }
@@ -0,0 +1,38 @@
+package assertions;
+
+import lombok.Getter;
+import utils.LatencyHistogram;
+
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latency, traffic and the slowest exchange for one {@code METHOD endpoint}.
+ */
+public class EndpointStats {
+    @Getter
+    private final LatencyHistogram histogram = new LatencyHistogram();
+    private final LongAdder bytesSent = new LongAdder();
+    private final LongAdder bytesReceived = new LongAdder();
+    private final AtomicReference<LatencyRegistry.Exchange> slowest = new AtomicReference<>();
+
+    void add(LatencyRegistry.Exchange exchange) {
+        histogram.record(exchange.getElapsedMicros());
+        bytesSent.add(exchange.getBytesSent());
+        bytesReceived.add(exchange.getBytesReceived());
+        slowest.accumulateAndGet(exchange, (current, candidate) ->
+                current == null || candidate.getElapsedMicros() > current.getElapsedMicros() ? candidate : current);
+    }
+
+    public long bytesSent() {
+        return bytesSent.sum();
+    }
+
+    public long bytesReceived() {
+        return bytesReceived.sum();
+    }
+
+    public LatencyRegistry.Exchange slowest() {
+        return slowest.get();
+    }
+}
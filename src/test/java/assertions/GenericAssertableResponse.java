@@ -1,41 +1,51 @@
 package assertions;
 
-import io.restassured.common.mapper.TypeRef;
 import io.restassured.response.Response;
 import io.restassured.response.ValidatableResponse;
-import lombok.RequiredArgsConstructor;
 
 import java.util.List;
-
-@RequiredArgsConstructor
+import java.util.stream.Stream;
 
 public class GenericAssertableResponse<T> {
 
-    private final ValidatableResponse response;
+    private final ResponseView response;
     private final Class<T> clazz;
 
+    public GenericAssertableResponse(ValidatableResponse response, Class<T> clazz) {
+        this(ResponseView.of(response), clazz);
+    }
+
+    public GenericAssertableResponse(ResponseView response, Class<T> clazz) {
+        this.response = response;
+        this.clazz = clazz;
+    }
+
     public GenericAssertableResponse<T> should(Condition condition){
         condition.check(response);
         return this;
     }
 
     public T asObject(){
-        return response.extract().as(clazz);
+        return response.as(clazz);
     }
 
     public T asObject(String jsonPath){
-        return response.extract().jsonPath().getObject(jsonPath, clazz);
+        return response.as(jsonPath, clazz);
     }
 
     public List<T> asList(){
-        return response.extract().jsonPath().getList("", clazz);
+        return response.asList("", clazz);
     }
     public List<T> asList(String jsonPath){
-        return response.extract().jsonPath().getList(jsonPath, clazz);
+        return response.asList(jsonPath, clazz);
+    }
+
+    public Stream<T> asStream(){
+        return response.stream(clazz);
     }
 
     public Response asResponse(){
-        return response.extract().response();
+        return response.raw();
     }
 
 }
@@ -0,0 +1,121 @@
+package assertions;
+
+import io.restassured.response.Response;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import utils.LatencyHistogram;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Run-wide and per-test latency and traffic per {@code METHOD endpoint}, fed by
+ * {@link utils.LatencyFilter} and {@link services.JdkHttpTransport}.
+ */
+public class LatencyRegistry {
+    private static final Map<String, EndpointStats> ENDPOINTS = new ConcurrentHashMap<>();
+    private static final ThreadLocal<Map<String, EndpointStats>> SCOPE = new ThreadLocal<>();
+    private static final ThreadLocal<Exchange> LAST = new ThreadLocal<>();
+
+    private LatencyRegistry() {
+    }
+
+    public static void record(Exchange exchange) {
+        ENDPOINTS.computeIfAbsent(exchange.key(), key -> new EndpointStats()).add(exchange);
+        Map<String, EndpointStats> scope = SCOPE.get();
+        if (scope != null) {
+            scope.computeIfAbsent(exchange.key(), key -> new EndpointStats()).add(exchange);
+        }
+        if (exchange.getResponse() != null) {
+            LAST.set(exchange);
+        }
+    }
+
+    public static LatencyHistogram histogram(String method, String endpoint) {
+        EndpointStats stats = ENDPOINTS.get(key(method, endpoint));
+        return stats == null ? null : stats.getHistogram();
+    }
+
+    public static Map<String, EndpointStats> snapshot() {
+        return new TreeMap<>(ENDPOINTS);
+    }
+
+    public static void reset() {
+        ENDPOINTS.clear();
+    }
+
+    public static void openScope() {
+        SCOPE.set(new ConcurrentHashMap<>());
+        LAST.remove();
+    }
+
+    public static <T> Supplier<T> inScope(Supplier<T> task) {
+        Map<String, EndpointStats> scope = SCOPE.get();
+        return scope == null ? task : () -> withScope(scope, task);
+    }
+
+    public static <T, R> Function<T, R> inScope(Function<T, R> task) {
+        Map<String, EndpointStats> scope = SCOPE.get();
+        return scope == null ? task : value -> withScope(scope, () -> task.apply(value));
+    }
+
+    private static <T> T withScope(Map<String, EndpointStats> scope, Supplier<T> task) {
+        Map<String, EndpointStats> previous = SCOPE.get();
+        SCOPE.set(scope);
+        try {
+            return task.get();
+        } finally {
+            LAST.remove();
+            if (previous == null) {
+                SCOPE.remove();
+            } else {
+                SCOPE.set(previous);
+            }
+        }
+    }
+
+    public static Map<String, EndpointStats> closeScope() {
+        Map<String, EndpointStats> scope = SCOPE.get();
+        SCOPE.remove();
+        LAST.remove();
+        return scope == null ? Map.of() : new TreeMap<>(scope);
+    }
+
+    /**
+     * The exchange recorded for {@code response} on this thread, if it was the last one. Tests
+     * and tasks run in a scope leave nothing behind for the next one to read.
+     */
+    static Exchange takeLast(Response response) {
+        Exchange exchange = LAST.get();
+        if (exchange == null || exchange.getResponse() != response) {
+            return null;
+        }
+        LAST.remove();
+        return exchange;
+    }
+
+    static String key(String method, String endpoint) {
+        return method + " " + endpoint;
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    public static class Exchange {
+        private final String method;
+        private final String endpoint;
+        private final String url;
+        private final int statusCode;
+        private final long elapsedMicros;
+        private final long bytesSent;
+        private final long bytesReceived;
+        private final Object requestBody;
+        private final Response response;
+
+        String key() {
+            return LatencyRegistry.key(method, endpoint);
+        }
+    }
+}
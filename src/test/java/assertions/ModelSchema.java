@@ -0,0 +1,188 @@
+package assertions;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.introspect.BeanPropertyDefinition;
+import lombok.RequiredArgsConstructor;
+import utils.Json;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Response shape compiled once per model class from Jackson's bean introspection. Lenient
+ * schemas follow the model's annotations; strict ones require every property and no others.
+ */
+public class ModelSchema {
+    private static final Map<Class<?>, ModelSchema> LENIENT = new ConcurrentHashMap<>();
+    private static final Map<Class<?>, ModelSchema> STRICT = new ConcurrentHashMap<>();
+
+    private final Node root;
+
+    private ModelSchema(Node root) {
+        this.root = root;
+    }
+
+    public static ModelSchema of(Class<?> type) {
+        return LENIENT.computeIfAbsent(type, key -> new ModelSchema(new Compiler(false).compile(Json.mapper().constructType(key))));
+    }
+
+    public static ModelSchema strict(Class<?> type) {
+        return STRICT.computeIfAbsent(type, key -> new ModelSchema(new Compiler(true).compile(Json.mapper().constructType(key))));
+    }
+
+    /**
+     * Returns one message per violation, each prefixed with the path of the offending node.
+     */
+    public List<String> validate(JsonNode node) {
+        List<String> errors = new ArrayList<>();
+        root.validate(node, "$", errors);
+        return errors;
+    }
+
+    private interface Node {
+        void validate(JsonNode node, String path, List<String> errors);
+    }
+
+    private enum Scalar implements Node {
+        STRING, INTEGER, NUMBER, BOOLEAN, ANY;
+
+        @Override
+        public void validate(JsonNode node, String path, List<String> errors) {
+            boolean matches = switch (this) {
+                case STRING -> node.isTextual();
+                case INTEGER -> node.isIntegralNumber();
+                case NUMBER -> node.isNumber();
+                case BOOLEAN -> node.isBoolean();
+                case ANY -> true;
+            };
+            if (!matches) {
+                errors.add(path + ": expected " + name().toLowerCase() + " but was " + node.getNodeType());
+            }
+        }
+    }
+
+    @RequiredArgsConstructor
+    private static class NullableNode implements Node {
+        private final Node node;
+        private final boolean nullable;
+
+        @Override
+        public void validate(JsonNode value, String path, List<String> errors) {
+            if (value.isNull()) {
+                if (!nullable) {
+                    errors.add(path + ": must not be null");
+                }
+                return;
+            }
+            node.validate(value, path, errors);
+        }
+    }
+
+    @RequiredArgsConstructor
+    private static class ArrayNode implements Node {
+        private final Node element;
+
+        @Override
+        public void validate(JsonNode node, String path, List<String> errors) {
+            if (!node.isArray()) {
+                errors.add(path + ": expected array but was " + node.getNodeType());
+                return;
+            }
+            for (int i = 0; i < node.size(); i++) {
+                element.validate(node.get(i), path + "[" + i + "]", errors);
+            }
+        }
+    }
+
+    private static class ObjectNode implements Node {
+        private final Map<String, Node> properties = new LinkedHashMap<>();
+        private final List<String> required = new ArrayList<>();
+        private boolean allowUnknown;
+
+        @Override
+        public void validate(JsonNode node, String path, List<String> errors) {
+            if (!node.isObject()) {
+                errors.add(path + ": expected object but was " + node.getNodeType());
+                return;
+            }
+            for (String name : required) {
+                if (!node.has(name)) {
+                    errors.add(path + "." + name + ": missing");
+                }
+            }
+            for (Iterator<Map.Entry<String, JsonNode>> fields = node.fields(); fields.hasNext(); ) {
+                Map.Entry<String, JsonNode> field = fields.next();
+                Node property = properties.get(field.getKey());
+                if (property != null) {
+                    property.validate(field.getValue(), path + "." + field.getKey(), errors);
+                } else if (!allowUnknown) {
+                    errors.add(path + "." + field.getKey() + ": unknown field");
+                }
+            }
+        }
+    }
+
+    @RequiredArgsConstructor
+    private static class Compiler {
+        private final boolean strict;
+        private final Map<Class<?>, ObjectNode> beans = new HashMap<>();
+
+        Node compile(JavaType type) {
+            Class<?> raw = type.getRawClass();
+            if (type.isArrayType() || type.isCollectionLikeType()) {
+                return new ArrayNode(new NullableNode(compile(type.getContentType()), true));
+            }
+            if (type.isMapLikeType() || raw == Object.class || JsonNode.class.isAssignableFrom(raw)) {
+                return Scalar.ANY;
+            }
+            if (CharSequence.class.isAssignableFrom(raw) || raw.isEnum() || raw == Character.class || raw == char.class) {
+                return Scalar.STRING;
+            }
+            if (raw == Boolean.class || raw == boolean.class) {
+                return Scalar.BOOLEAN;
+            }
+            if (raw == Integer.class || raw == int.class || raw == Long.class || raw == long.class
+                    || raw == Short.class || raw == short.class || raw == Byte.class || raw == byte.class
+                    || raw == BigInteger.class) {
+                return Scalar.INTEGER;
+            }
+            if (Number.class.isAssignableFrom(raw) || raw == double.class || raw == float.class || raw == BigDecimal.class) {
+                return Scalar.NUMBER;
+            }
+            return bean(type);
+        }
+
+        private ObjectNode bean(JavaType type) {
+            Class<?> raw = type.getRawClass();
+            ObjectNode compiled = beans.get(raw);
+            if (compiled != null) {
+                return compiled;
+            }
+            ObjectNode object = new ObjectNode();
+            beans.put(raw, object);
+            JsonIgnoreProperties ignore = raw.getAnnotation(JsonIgnoreProperties.class);
+            object.allowUnknown = !strict && ignore != null && ignore.ignoreUnknown();
+            JsonInclude include = raw.getAnnotation(JsonInclude.class);
+            boolean omitsNulls = include != null && include.value() != JsonInclude.Include.ALWAYS;
+            for (BeanPropertyDefinition property : Json.mapper().getSerializationConfig().introspect(type).findProperties()) {
+                JavaType propertyType = property.getPrimaryType();
+                boolean primitive = propertyType.isPrimitive();
+                object.properties.put(property.getName(), new NullableNode(compile(propertyType), !primitive));
+                if (strict || primitive || property.isRequired() || !omitsNulls) {
+                    object.required.add(property.getName());
+                }
+            }
+            return object;
+        }
+    }
+}
@@ -0,0 +1,190 @@
+package assertions;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.MissingNode;
+import io.restassured.response.Response;
+import io.restassured.response.ValidatableResponse;
+import utils.Json;
+import utils.JsonStreams;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * Status, body and lazily parsed JSON of one response. Paths look like {@code games[0].title};
+ * a name on an array collects it from every element, other GPath syntax is rejected.
+ */
+public class ResponseView {
+    private static final Pattern PATH = Pattern.compile("(?:[\\w$-]+|\\[\\d+])(?:\\.[\\w$-]+|\\[\\d+])*");
+
+    private final String method;
+    private final String endpoint;
+    private final int statusCode;
+    private final String contentType;
+    private final long timeMillis;
+    private final Supplier<byte[]> bodySupplier;
+    private final Response raw;
+    private byte[] body;
+    private JsonNode json;
+
+    private ResponseView(String method, String endpoint, int statusCode, String contentType, long timeMillis,
+                         Supplier<byte[]> bodySupplier, Response raw) {
+        this.method = method;
+        this.endpoint = endpoint;
+        this.statusCode = statusCode;
+        this.contentType = contentType;
+        this.timeMillis = timeMillis;
+        this.bodySupplier = bodySupplier;
+        this.raw = raw;
+    }
+
+    public static ResponseView of(ValidatableResponse response) {
+        Response raw = response.extract().response();
+        LatencyRegistry.Exchange exchange = LatencyRegistry.takeLast(raw);
+        if (exchange == null) {
+            return new ResponseView(null, null, raw.statusCode(), raw.getContentType(), raw.getTime(), raw::asByteArray, raw);
+        }
+        return new ResponseView(exchange.getMethod(), exchange.getEndpoint(), raw.statusCode(), raw.getContentType(),
+                exchange.getElapsedMicros() / 1000, raw::asByteArray, raw);
+    }
+
+    public static ResponseView of(int statusCode, String contentType, long timeMillis, byte[] body) {
+        return of(null, null, statusCode, contentType, timeMillis, body);
+    }
+
+    public static ResponseView of(String method, String endpoint, int statusCode, String contentType, long timeMillis,
+                                  byte[] body) {
+        return new ResponseView(method, endpoint, statusCode, contentType, timeMillis, () -> body, null);
+    }
+
+    /**
+     * HTTP method of the request, or {@code null} when the response did not pass through
+     * {@link utils.LatencyFilter}.
+     */
+    public String method() {
+        return method;
+    }
+
+    public String endpoint() {
+        return endpoint;
+    }
+
+    public int statusCode() {
+        return statusCode;
+    }
+
+    public String contentType() {
+        return contentType;
+    }
+
+    public long timeMillis() {
+        return timeMillis;
+    }
+
+    public synchronized byte[] body() {
+        if (body == null) {
+            byte[] read = bodySupplier.get();
+            body = read == null ? new byte[0] : read;
+        }
+        return body;
+    }
+
+    public synchronized JsonNode json() {
+        if (json == null) {
+            byte[] bytes = body();
+            try {
+                JsonNode parsed = bytes.length == 0 ? null : Json.mapper().readTree(bytes);
+                json = parsed == null ? MissingNode.getInstance() : parsed;
+            } catch (IOException e) {
+                throw new UncheckedIOException("Response body is not JSON", e);
+            }
+        }
+        return json;
+    }
+
+    public JsonNode json(String path) {
+        if (!path.isEmpty() && !PATH.matcher(path).matches()) {
+            throw new IllegalArgumentException("Unsupported path '" + path
+                    + "', expected dot separated names and [index] steps");
+        }
+        JsonNode node = json();
+        for (String step : path.split("[.\\[\\]]")) {
+            if (step.isEmpty()) {
+                continue;
+            }
+            node = node.isArray() && step.chars().allMatch(Character::isDigit)
+                    ? node.path(Integer.parseInt(step))
+                    : field(node, step);
+        }
+        return node;
+    }
+
+    private static JsonNode field(JsonNode node, String name) {
+        if (!node.isArray()) {
+            return node.path(name);
+        }
+        ArrayNode projected = JsonNodeFactory.instance.arrayNode(node.size());
+        for (JsonNode item : node) {
+            JsonNode value = field(item, name);
+            if (item.isArray()) {
+                projected.addAll((ArrayNode) value);
+            } else if (!value.isMissingNode()) {
+                projected.add(value);
+            }
+        }
+        return projected;
+    }
+
+    public <T> T as(Class<T> tClass) {
+        return as("", tClass);
+    }
+
+    public <T> T as(String path, Class<T> tClass) {
+        return convert(json(path), tClass);
+    }
+
+    public <T> List<T> asList(String path, Class<T> tClass) {
+        JsonNode node = json(path);
+        if (node.isMissingNode() || node.isNull()) {
+            return null;
+        }
+        List<T> result = new ArrayList<>(node.size());
+        node.forEach(item -> result.add(convert(item, tClass)));
+        return result;
+    }
+
+    /**
+     * Streams the elements of a top-level array straight from the body bytes, without
+     * building the tree or a list.
+     */
+    public <T> Stream<T> stream(Class<T> tClass) {
+        return JsonStreams.stream(new ByteArrayInputStream(body()), tClass);
+    }
+
+    public Response raw() {
+        if (raw == null) {
+            throw new UnsupportedOperationException((method == null ? "Response" : method + " " + endpoint)
+                    + " was not sent through REST Assured (api.transport=jdk); use view() instead of asResponse()");
+        }
+        return raw;
+    }
+
+    private static <T> T convert(JsonNode node, Class<T> tClass) {
+        if (node.isMissingNode() || node.isNull()) {
+            return null;
+        }
+        try {
+            return Json.reader(tClass).readValue(node);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
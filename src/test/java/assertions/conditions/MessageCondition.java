@@ -1,20 +1,18 @@
 package assertions.conditions;
 
 import assertions.Condition;
-import io.restassured.response.ValidatableResponse;
+import assertions.ResponseView;
 import lombok.RequiredArgsConstructor;
 import models.swager.Info;
 import org.junit.jupiter.api.Assertions;
 
-import static org.hamcrest.Matchers.equalTo;
-
 @RequiredArgsConstructor
 public class MessageCondition implements Condition {
     private final String expectedMessage;
 
     @Override
-    public void check(ValidatableResponse response) {
-        Info info = response.extract().jsonPath().getObject("info", Info.class);
+    public void check(ResponseView response) {
+        Info info = response.as("info", Info.class);
         Assertions.assertEquals(expectedMessage, info.getMessage());
     }
 }
@@ -0,0 +1,32 @@
+package assertions.conditions;
+
+import assertions.Condition;
+import assertions.LatencyRegistry;
+import assertions.ResponseView;
+import lombok.RequiredArgsConstructor;
+import org.junit.jupiter.api.Assertions;
+import utils.LatencyHistogram;
+
+import java.time.Duration;
+
+/**
+ * Checks a latency percentile over every call made so far in this run to the endpoint of
+ * the response under test.
+ */
+@RequiredArgsConstructor
+public class PercentileCondition implements Condition {
+    private final double percentile;
+    private final Duration maxTime;
+
+    @Override
+    public void check(ResponseView response) {
+        Assertions.assertNotNull(response.endpoint(), "Response has no recorded endpoint");
+        LatencyHistogram histogram = LatencyRegistry.histogram(response.method(), response.endpoint());
+        Assertions.assertNotNull(histogram, "No latency recorded for " + response.method() + " " + response.endpoint());
+        long actualMicros = histogram.percentile(percentile);
+        Assertions.assertTrue(actualMicros <= maxTime.toNanos() / 1000,
+                () -> "p" + percentile + " of " + response.method() + " " + response.endpoint() + " over "
+                        + histogram.count() + " calls is " + actualMicros / 1000.0 + " ms, expected at most "
+                        + maxTime.toMillis() + " ms");
+    }
+}
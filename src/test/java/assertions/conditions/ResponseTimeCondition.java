@@ -0,0 +1,19 @@
+package assertions.conditions;
+
+import assertions.Condition;
+import assertions.ResponseView;
+import lombok.RequiredArgsConstructor;
+import org.junit.jupiter.api.Assertions;
+
+import java.time.Duration;
+
+@RequiredArgsConstructor
+public class ResponseTimeCondition implements Condition {
+    private final Duration maxTime;
+
+    @Override
+    public void check(ResponseView response) {
+        Assertions.assertTrue(response.timeMillis() <= maxTime.toMillis(),
+                () -> "Response took " + response.timeMillis() + " ms, expected at most " + maxTime.toMillis() + " ms");
+    }
+}
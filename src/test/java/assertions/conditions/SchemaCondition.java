@@ -0,0 +1,24 @@
+package assertions.conditions;
+
+import assertions.Condition;
+import assertions.ModelSchema;
+import assertions.ResponseView;
+import com.fasterxml.jackson.databind.JsonNode;
+import lombok.RequiredArgsConstructor;
+import org.junit.jupiter.api.Assertions;
+
+import java.util.List;
+
+@RequiredArgsConstructor
+public class SchemaCondition implements Condition {
+    private final String jsonPath;
+    private final ModelSchema schema;
+
+    @Override
+    public void check(ResponseView response) {
+        JsonNode node = response.json(jsonPath);
+        Assertions.assertFalse(node.isMissingNode(), "No JSON at '" + jsonPath + "'");
+        List<String> errors = schema.validate(node);
+        Assertions.assertTrue(errors.isEmpty(), () -> "Response does not match schema:\n" + String.join("\n", errors));
+    }
+}
@@ -1,7 +1,7 @@
 package assertions.conditions;
 
 import assertions.Condition;
-import io.restassured.response.ValidatableResponse;
+import assertions.ResponseView;
 import lombok.RequiredArgsConstructor;
 import org.junit.jupiter.api.Assertions;
 
@@ -10,8 +10,8 @@ public class StatusCodeCondition implements Condition {
     private final Integer statusCode;
 
     @Override
-    public void check(ValidatableResponse response) {
-        int actualStatusCode = response.extract().statusCode();
+    public void check(ResponseView response) {
+        int actualStatusCode = response.statusCode();
         Assertions.assertEquals(statusCode,actualStatusCode);
     }
 }
@@ -0,0 +1,68 @@
+package listener;
+
+import assertions.AssertableResponse;
+import models.swager.FullUser;
+import services.UserService;
+import utils.CassetteFilter;
+
+import java.util.function.Function;
+
+/**
+ * Logged-in admin shared by every test of a run. The login happens on first use; a call
+ * answered with 401 logs in again once and is repeated with the new token. Its own calls are
+ * recorded under a cassette scope of their own, whichever test happens to trigger them.
+ */
+public class AdminSession {
+    private static final String SCOPE = AdminSession.class.getSimpleName();
+
+    private final UserService userService;
+    private final FullUser credentials;
+    private volatile String token;
+    private volatile FullUser user;
+
+    public AdminSession(UserService userService, FullUser credentials) {
+        this.userService = userService;
+        this.credentials = credentials;
+    }
+
+    public String token() {
+        String current = token;
+        return current != null ? current : refresh(null);
+    }
+
+    /**
+     * The admin as returned by {@code api/user}, fetched once.
+     */
+    public FullUser user() {
+        FullUser current = user;
+        if (current == null) {
+            current = CassetteFilter.inScope(SCOPE, () -> call(userService::getUserInfo)).as(FullUser.class);
+            user = current;
+        }
+        return current;
+    }
+
+    public AssertableResponse call(Function<String, AssertableResponse> request) {
+        String used = token();
+        AssertableResponse response = request.apply(used);
+        if (response.statusCode() != 401) {
+            return response;
+        }
+        return request.apply(refresh(used));
+    }
+
+    private synchronized String refresh(String stale) {
+        if (token != null && !token.equals(stale)) {
+            return token;
+        }
+        if (stale != null) {
+            userService.forgetToken(stale);
+        }
+        String fresh = CassetteFilter.inScope(SCOPE, () -> userService.token(credentials));
+        if (fresh == null) {
+            throw new IllegalStateException("Не удалось авторизоваться под " + credentials.getLogin());
+        }
+        token = fresh;
+        return fresh;
+    }
+}
@@ -5,22 +5,34 @@ import org.junit.jupiter.api.extension.ExtensionContext;
 import org.junit.jupiter.api.extension.ParameterContext;
 import org.junit.jupiter.api.extension.ParameterResolutionException;
 import org.junit.jupiter.api.extension.ParameterResolver;
+import services.UserService;
 
 public class AdminUserResolver implements ParameterResolver {
+    private static final ExtensionContext.Namespace NAMESPACE = ExtensionContext.Namespace.create(AdminUserResolver.class);
+
     @Override
     public boolean supportsParameter(ParameterContext parameterContext, ExtensionContext extensionContext) throws ParameterResolutionException {
-        return parameterContext.isAnnotated(AdminUser.class);
+        return parameterContext.isAnnotated(AdminUser.class)
+                || AdminSession.class.equals(parameterContext.getParameter().getType());
     }
 
     @Override
     public Object resolveParameter(ParameterContext parameterContext, ExtensionContext extensionContext) throws ParameterResolutionException {
         Class<?> type = parameterContext.getParameter().getType();
         if(FullUser.class.equals(type)){
-            return FullUser.builder()
-                    .pass("admin")
-                    .login("admin")
-                    .build();
+            return admin();
+        }
+        if(AdminSession.class.equals(type)){
+            return extensionContext.getRoot().getStore(NAMESPACE)
+                    .getOrComputeIfAbsent(AdminSession.class, key -> new AdminSession(new UserService(), admin()), AdminSession.class);
         }
         throw new ParameterResolutionException("Админский пользователь не сгенерирован");
     }
+
+    private static FullUser admin() {
+        return FullUser.builder()
+                .pass("admin")
+                .login("admin")
+                .build();
+    }
 }
@@ -0,0 +1,27 @@
+package listener;
+
+import org.junit.jupiter.api.extension.AfterEachCallback;
+import org.junit.jupiter.api.extension.BeforeEachCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import utils.CassetteFilter;
+
+/**
+ * Scopes cassette keys to the running test, so recordings match on replay whatever order
+ * the tests run in.
+ */
+public class CassetteExtension implements BeforeEachCallback, AfterEachCallback {
+    private static final ExtensionContext.Namespace NAMESPACE = ExtensionContext.Namespace.create(CassetteExtension.class);
+
+    @Override
+    public void beforeEach(ExtensionContext context) {
+        CassetteFilter.Scope previous = CassetteFilter.open(context.getUniqueId());
+        if (previous != null) {
+            context.getStore(NAMESPACE).put(CassetteFilter.Scope.class, previous);
+        }
+    }
+
+    @Override
+    public void afterEach(ExtensionContext context) {
+        CassetteFilter.restore(context.getStore(NAMESPACE).remove(CassetteFilter.Scope.class, CassetteFilter.Scope.class));
+    }
+}
@@ -0,0 +1,37 @@
+package listener;
+
+import org.junit.jupiter.api.extension.BeforeAllCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import services.CreatedUsers;
+import services.Transports;
+import services.UserCleanup;
+import services.UserService;
+
+/**
+ * Deletes the users created during the run once it has finished. {@code api.cleanup.sweep=true}
+ * also deletes leftovers matching {@code api.cleanup.sweepPrefix}; never use it while other runs are active.
+ */
+public class CreatedUsersCleanup implements BeforeAllCallback {
+    private static final ExtensionContext.Namespace NAMESPACE = ExtensionContext.Namespace.create(CreatedUsersCleanup.class);
+
+    @Override
+    public void beforeAll(ExtensionContext context) {
+        context.getRoot().getStore(NAMESPACE).getOrComputeIfAbsent(Cleanup.class, key -> new Cleanup(), Cleanup.class);
+    }
+
+    private static class Cleanup implements ExtensionContext.Store.CloseableResource {
+        @Override
+        public void close() {
+            UserCleanup.Result result = new UserCleanup.Result();
+            CreatedUsers.shared().drain().forEach((baseUri, created) ->
+                    result.add(new UserCleanup(new UserService(Transports.raw(baseUri))).deleteAll(created)));
+            System.out.println("Cleanup of created users: " + result);
+            if (Boolean.getBoolean("api.cleanup.sweep")) {
+                String prefix = System.getProperty("api.cleanup.sweepPrefix", "testUserLogin");
+                UserCleanup sweep = new UserCleanup(new UserService(Transports.raw()));
+                System.out.println("Cleanup sweep of '" + prefix + "*': "
+                        + sweep.sweep(prefix, System.getProperty("api.cleanup.sweepPass", "testpass")));
+            }
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package listener;
+
+import org.junit.jupiter.api.extension.BeforeEachCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.TestWatcher;
+import utils.BufferedLogFilter;
+
+import java.util.Optional;
+
+public class LogOnFailureExtension implements BeforeEachCallback, TestWatcher {
+    @Override
+    public void beforeEach(ExtensionContext context) {
+        BufferedLogFilter.reset();
+    }
+
+    @Override
+    public void testFailed(ExtensionContext context, Throwable cause) {
+        BufferedLogFilter.flush(context.getDisplayName() + " failed: " + cause);
+    }
+
+    @Override
+    public void testSuccessful(ExtensionContext context) {
+        BufferedLogFilter.reset();
+    }
+
+    @Override
+    public void testAborted(ExtensionContext context, Throwable cause) {
+        BufferedLogFilter.reset();
+    }
+
+    @Override
+    public void testDisabled(ExtensionContext context, Optional<String> reason) {
+        BufferedLogFilter.reset();
+    }
+}
@@ -0,0 +1,152 @@
+package listener;
+
+import assertions.EndpointStats;
+import assertions.LatencyRegistry;
+import io.qameta.allure.Allure;
+import io.qameta.allure.AllureLifecycle;
+import io.qameta.allure.model.Label;
+import io.qameta.allure.model.Status;
+import io.qameta.allure.model.TestResult;
+import io.restassured.response.Response;
+import org.junit.jupiter.api.extension.AfterEachCallback;
+import org.junit.jupiter.api.extension.BeforeAllCallback;
+import org.junit.jupiter.api.extension.BeforeEachCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import services.ConnectionPool;
+import stub.StubApiServer;
+import utils.LatencyHistogram;
+import utils.Resilience;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Attaches per-endpoint timing and the slowest exchange to each test, and a per-fork summary
+ * with resilience and pool stats to Allure; list it first so it closes after other resources.
+ */
+public class PerformanceReportExtension implements BeforeAllCallback, BeforeEachCallback, AfterEachCallback {
+    private static final ExtensionContext.Namespace NAMESPACE = ExtensionContext.Namespace.create(PerformanceReportExtension.class);
+    private static final int MAX_BODY = 4096;
+
+    @Override
+    public void beforeAll(ExtensionContext context) {
+        context.getRoot().getStore(NAMESPACE).getOrComputeIfAbsent(SuiteSummary.class, key -> new SuiteSummary(), SuiteSummary.class);
+    }
+
+    @Override
+    public void beforeEach(ExtensionContext context) {
+        LatencyRegistry.openScope();
+    }
+
+    @Override
+    public void afterEach(ExtensionContext context) {
+        Map<String, EndpointStats> stats = LatencyRegistry.closeScope();
+        if (stats.isEmpty()) {
+            return;
+        }
+        Allure.addAttachment("Performance by endpoint", "text/csv", csv(stats), ".csv");
+        stats.values().stream()
+                .map(EndpointStats::slowest)
+                .max(Comparator.comparingLong(LatencyRegistry.Exchange::getElapsedMicros))
+                .ifPresent(slowest -> Allure.addAttachment("Slowest exchange", "text/plain", describe(slowest), ".txt"));
+    }
+
+    static String csv(Map<String, EndpointStats> stats) {
+        StringBuilder csv = new StringBuilder("endpoint,count,total_ms,mean_ms,p95_ms,max_ms,bytes_sent,bytes_received\n");
+        stats.forEach((endpoint, endpointStats) -> {
+            LatencyHistogram histogram = endpointStats.getHistogram();
+            csv.append(String.format(Locale.ROOT, "%s,%d,%.2f,%.2f,%.2f,%.2f,%d,%d%n",
+                    endpoint, histogram.count(), histogram.sum() / 1000.0, histogram.mean() / 1000.0,
+                    histogram.percentile(95) / 1000.0, histogram.max() / 1000.0,
+                    endpointStats.bytesSent(), endpointStats.bytesReceived()));
+        });
+        return csv.toString();
+    }
+
+    private static String describe(LatencyRegistry.Exchange exchange) {
+        StringBuilder text = new StringBuilder()
+                .append(exchange.getMethod()).append(' ').append(exchange.getUrl()).append('\n')
+                .append("Status: ").append(exchange.getStatusCode())
+                .append(", time: ").append(exchange.getElapsedMicros() / 1000.0).append(" ms")
+                .append(", sent: ").append(exchange.getBytesSent()).append(" B")
+                .append(", received: ").append(exchange.getBytesReceived()).append(" B\n");
+        Object requestBody = exchange.getRequestBody();
+        if (requestBody != null) {
+            text.append("\nRequest body:\n").append(requestBody instanceof byte[]
+                    ? "<binary " + ((byte[]) requestBody).length + " bytes>"
+                    : truncate(String.valueOf(requestBody))).append('\n');
+        }
+        Response response = exchange.getResponse();
+        if (response == null) {
+            return text.append("\nResponse body not kept by this transport").toString();
+        }
+        String contentType = response.getContentType();
+        text.append("\nResponse body:\n").append(contentType != null && (contentType.contains("json") || contentType.startsWith("text"))
+                ? truncate(response.asString())
+                : "<binary " + exchange.getBytesReceived() + " bytes, " + contentType + ">");
+        return text.toString();
+    }
+
+    private static String truncate(String body) {
+        return body.length() <= MAX_BODY ? body : body.substring(0, MAX_BODY) + "\n... <truncated, " + body.length() + " chars>";
+    }
+
+    private static class SuiteSummary implements ExtensionContext.Store.CloseableResource {
+        private final String fork = System.getProperty("org.gradle.test.worker", String.valueOf(ProcessHandle.current().pid()));
+
+        @Override
+        public void close() {
+            try {
+                summarize();
+            } finally {
+                ConnectionPool.shared().shutdown();
+                StubApiServer.stopShared();
+            }
+        }
+
+        private void summarize() {
+            Map<String, EndpointStats> stats = LatencyRegistry.snapshot();
+            if (stats.isEmpty()) {
+                return;
+            }
+            String csv = csv(stats);
+            String resilience = "Resilience " + Resilience.shared().metrics() + "\nConnection pool " + ConnectionPool.shared().stats();
+            System.out.println("Performance summary (fork " + fork + ")\n" + csv);
+            System.out.println(resilience);
+            Path results = Path.of(System.getProperty("allure.results.directory", "build/allure-results"));
+            try {
+                Files.createDirectories(results);
+                Files.writeString(results.resolve("performance-summary-" + fork + ".csv"), csv, StandardCharsets.UTF_8);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            report(csv, resilience);
+        }
+
+        private void report(String csv, String resilience) {
+            AllureLifecycle lifecycle = Allure.getLifecycle();
+            String uuid = UUID.randomUUID().toString();
+            String name = "Performance summary (fork " + fork + ")";
+            lifecycle.scheduleTestCase(new TestResult()
+                    .setUuid(uuid)
+                    .setName(name)
+                    .setFullName(PerformanceReportExtension.class.getName() + "#" + fork)
+                    .setHistoryId(PerformanceReportExtension.class.getName() + "#" + fork)
+                    .setLabels(List.of(new Label().setName("suite").setValue("Performance summary")))
+                    .setStatus(Status.PASSED));
+            lifecycle.startTestCase(uuid);
+            lifecycle.addAttachment("Performance by endpoint", "text/csv", ".csv", csv.getBytes(StandardCharsets.UTF_8));
+            lifecycle.addAttachment("Resilience and connections", "text/plain", ".txt", resilience.getBytes(StandardCharsets.UTF_8));
+            lifecycle.stopTestCase(uuid);
+            lifecycle.writeTestCase(uuid);
+        }
+    }
+}
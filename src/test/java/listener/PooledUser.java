@@ -0,0 +1,15 @@
+package listener;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Injects an already registered user leased from the run-wide {@link UserPool}. Tests may
+ * change the password or delete the user; the pool notices and does not hand it out again.
+ */
+@Target(ElementType.PARAMETER)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface PooledUser {
+}
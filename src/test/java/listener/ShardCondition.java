@@ -0,0 +1,31 @@
+package listener;
+
+import org.junit.jupiter.api.extension.ConditionEvaluationResult;
+import org.junit.jupiter.api.extension.ExecutionCondition;
+import org.junit.jupiter.api.extension.ExtensionContext;
+
+import java.lang.reflect.Method;
+import java.util.Optional;
+
+/**
+ * Splits test methods between {@code shard.count} runs: a method runs only in the shard
+ * {@code shard.index} (0-based) its class and method name hash to, so every shard can be
+ * started with the same command on a different machine.
+ */
+public class ShardCondition implements ExecutionCondition {
+    private static final int COUNT = Integer.getInteger("shard.count", 1);
+    private static final int INDEX = Integer.getInteger("shard.index", 0);
+
+    @Override
+    public ConditionEvaluationResult evaluateExecutionCondition(ExtensionContext context) {
+        Optional<Method> method = context.getTestMethod();
+        if (COUNT <= 1 || method.isEmpty()) {
+            return ConditionEvaluationResult.enabled("not sharded");
+        }
+        String name = method.get().getDeclaringClass().getName() + "#" + method.get().getName();
+        int shard = Math.floorMod(name.hashCode(), COUNT);
+        return shard == INDEX
+                ? ConditionEvaluationResult.enabled("shard " + shard + " of " + COUNT)
+                : ConditionEvaluationResult.disabled("belongs to shard " + shard + " of " + COUNT);
+    }
+}
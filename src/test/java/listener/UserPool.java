@@ -0,0 +1,67 @@
+package listener;
+
+import models.swager.FullUser;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import services.UserService;
+import utils.RandomTestData;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Users registered on demand and leased to tests. A user whose password is unchanged when it
+ * comes back is leased again, one with a changed password is retired and a deleted one is
+ * dropped. Every user the pool still knows is deleted when the run ends.
+ */
+public class UserPool implements ExtensionContext.Store.CloseableResource {
+    private final UserService userService;
+    private final Queue<FullUser> available = new ConcurrentLinkedQueue<>();
+    private final Queue<FullUser> retired = new ConcurrentLinkedQueue<>();
+
+    public UserPool(UserService userService) {
+        this.userService = userService;
+    }
+
+    public FullUser lease() {
+        FullUser user = available.poll();
+        return user != null ? user : register();
+    }
+
+    public void giveBack(FullUser user) {
+        String pass = userService.currentPass(user);
+        if (pass == null) {
+            return;
+        }
+        if (pass.equals(user.getPass())) {
+            available.add(user);
+        } else {
+            retired.add(FullUser.builder().login(user.getLogin()).pass(pass).build());
+        }
+    }
+
+    @Override
+    public void close() {
+        available.forEach(this::delete);
+        retired.forEach(this::delete);
+    }
+
+    private FullUser register() {
+        FullUser user = RandomTestData.getRandomUser();
+        int status = userService.register(user).statusCode();
+        if (status != 201) {
+            throw new IllegalStateException("Pool user registration returned " + status);
+        }
+        return user;
+    }
+
+    private void delete(FullUser user) {
+        try {
+            String token = userService.token(user);
+            if (token != null) {
+                userService.deleteUser(token);
+            }
+        } catch (RuntimeException ignored) {
+            // already deleted by the created users cleanup, nothing left to do
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package listener;
+
+import models.swager.FullUser;
+import org.junit.jupiter.api.extension.AfterEachCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.ParameterContext;
+import org.junit.jupiter.api.extension.ParameterResolutionException;
+import org.junit.jupiter.api.extension.ParameterResolver;
+import services.UserService;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class UserPoolResolver implements ParameterResolver, AfterEachCallback {
+    private static final ExtensionContext.Namespace NAMESPACE = ExtensionContext.Namespace.create(UserPoolResolver.class);
+
+    @Override
+    public boolean supportsParameter(ParameterContext parameterContext, ExtensionContext extensionContext) throws ParameterResolutionException {
+        return parameterContext.isAnnotated(PooledUser.class);
+    }
+
+    @Override
+    public Object resolveParameter(ParameterContext parameterContext, ExtensionContext extensionContext) throws ParameterResolutionException {
+        if (!FullUser.class.equals(parameterContext.getParameter().getType())) {
+            throw new ParameterResolutionException("Пользователь из пула может быть только FullUser");
+        }
+        FullUser original = pool(extensionContext).lease();
+        FullUser leased = FullUser.builder()
+                .login(original.getLogin())
+                .pass(original.getPass())
+                .build();
+        leases(extensionContext).add(original);
+        return leased;
+    }
+
+    @Override
+    public void afterEach(ExtensionContext context) {
+        List<FullUser> leases = leases(context);
+        if (leases.isEmpty()) {
+            return;
+        }
+        UserPool pool = pool(context);
+        leases.forEach(pool::giveBack);
+        leases.clear();
+    }
+
+    private static UserPool pool(ExtensionContext context) {
+        return context.getRoot().getStore(NAMESPACE)
+                .getOrComputeIfAbsent(UserPool.class, key -> new UserPool(new UserService()), UserPool.class);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<FullUser> leases(ExtensionContext context) {
+        return context.getStore(NAMESPACE).getOrComputeIfAbsent(UserPool.class, key -> new ArrayList<FullUser>(), List.class);
+    }
+}
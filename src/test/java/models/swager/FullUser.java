@@ -18,13 +18,13 @@ import lombok.NoArgsConstructor;
 @JsonIgnoreProperties(ignoreUnknown = true)
 public class FullUser{
 
-	@JsonProperty("pass")
+	@JsonProperty(value = "pass", required = true)
 	private String pass;
 
 	@JsonProperty("games")
 	private List<GamesItem> games;
 
-	@JsonProperty("login")
+	@JsonProperty(value = "login", required = true)
 	private String login;
 
 }
\ No newline at end of file
@@ -18,7 +18,7 @@ import lombok.NoArgsConstructor;
 @JsonIgnoreProperties(ignoreUnknown = true)
 public class GamesItem{
 
-	@JsonProperty("gameId")
+	@JsonProperty(value = "gameId", required = true)
 	private Integer gameId;
 
 	@JsonProperty("requirements")
@@ -33,7 +33,7 @@ public class GamesItem{
 	@JsonProperty("description")
 	private String description;
 
-	@JsonProperty("title")
+	@JsonProperty(value = "title", required = true)
 	private String title;
 
 	@JsonProperty("tags")
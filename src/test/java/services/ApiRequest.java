@@ -0,0 +1,50 @@
+package services;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.io.InputStream;
+import java.nio.file.Path;
+
+/**
+ * Transport-neutral description of one call: method, path relative to the base URI, an
+ * optional bearer token and either a JSON body or a single multipart file part.
+ */
+@Getter
+@Builder
+public class ApiRequest {
+    private final String method;
+    private final String path;
+    private final String token;
+    private final Object json;
+    private final Part part;
+
+    public static ApiRequestBuilder get(String path) {
+        return builder().method("GET").path(path);
+    }
+
+    public static ApiRequestBuilder post(String path) {
+        return builder().method("POST").path(path);
+    }
+
+    public static ApiRequestBuilder put(String path) {
+        return builder().method("PUT").path(path);
+    }
+
+    public static ApiRequestBuilder delete(String path) {
+        return builder().method("DELETE").path(path);
+    }
+
+    /**
+     * A file part read either from disk, with a known length, or from a stream that is
+     * consumed once.
+     */
+    @Getter
+    @Builder
+    public static class Part {
+        private final String controlName;
+        private final String fileName;
+        private final Path file;
+        private final InputStream stream;
+    }
+}
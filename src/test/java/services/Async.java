@@ -0,0 +1,109 @@
+package services;
+
+import assertions.AssertableResponse;
+import assertions.LatencyRegistry;
+import utils.CassetteFilter;
+
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.IntFunction;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Executor and fan-out helpers for the async service variants. Uses a virtual thread per
+ * task when the runtime has them (JDK 21+), otherwise a bounded pool of daemon threads
+ * sized by {@code api.async.threads}.
+ */
+public class Async {
+    private Async() {
+    }
+
+    public static ExecutorService executor() {
+        return Holder.executor;
+    }
+
+    /**
+     * Runs {@code task} on {@code executor} in the caller's cassette and latency scopes.
+     */
+    public static <T> CompletableFuture<T> supply(Supplier<T> task, Executor executor) {
+        return CompletableFuture.supplyAsync(CassetteFilter.inScope(LatencyRegistry.inScope(task)), executor);
+    }
+
+    /**
+     * Future of {@code source} for the async services to hand out. A result that arrives after
+     * the caller cancelled it goes to {@code discard} instead of being dropped.
+     */
+    public static <T> CompletableFuture<T> discarding(CompletableFuture<T> source, Consumer<? super T> discard) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        source.whenComplete((value, error) -> {
+            if (error != null) {
+                result.completeExceptionally(error);
+            } else if (!result.complete(value) && value != null) {
+                discard.accept(value);
+            }
+        });
+        return result;
+    }
+
+    /**
+     * {@link #discarding} for responses: a discarded response has its body read, so the
+     * connection goes back to the pool.
+     */
+    public static CompletableFuture<AssertableResponse> discardingResponse(CompletableFuture<AssertableResponse> source) {
+        return discarding(source, AssertableResponse::asByteArray);
+    }
+
+    public static <T> CompletableFuture<List<T>> fanOut(int count, IntFunction<CompletableFuture<T>> call) {
+        List<CompletableFuture<T>> futures = IntStream.range(0, count)
+                .mapToObj(call)
+                .collect(Collectors.toList());
+        return CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]))
+                .thenApply(ignored -> futures.stream().map(CompletableFuture::join).collect(Collectors.toList()));
+    }
+
+    /**
+     * Waits for every future and rethrows the first failure as is, so assertion errors from
+     * conditions reach the test unchanged.
+     */
+    public static <T> List<T> joinAll(CompletableFuture<List<T>> all) {
+        try {
+            return all.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw e;
+        }
+    }
+
+    private static ExecutorService create() {
+        try {
+            Method virtual = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return (ExecutorService) virtual.invoke(null);
+        } catch (ReflectiveOperationException | UnsupportedOperationException e) {
+            AtomicInteger counter = new AtomicInteger();
+            return Executors.newFixedThreadPool(Integer.getInteger("api.async.threads", 64), r -> {
+                Thread thread = new Thread(r, "api-async-" + counter.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+    }
+
+    private static class Holder {
+        private static final ExecutorService executor = create();
+    }
+}
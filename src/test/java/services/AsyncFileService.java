@@ -0,0 +1,48 @@
+package services;
+
+import assertions.AssertableResponse;
+import utils.FileDigest;
+
+import java.nio.file.Path;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+/**
+ * Async variants of {@link FileService}. Plain calls go through {@link Transport#sendAsync};
+ * digests read the body as a stream and take a thread of {@code executor} while they do.
+ * Cancelled calls discard their result through {@link Async#discarding}; a digest has
+ * already closed its stream, so there is nothing left to release.
+ */
+public class AsyncFileService {
+    private final FileService fileService;
+    private final Executor executor;
+
+    public AsyncFileService() {
+        this(new FileService(), Async.executor());
+    }
+
+    public AsyncFileService(FileService fileService, Executor executor) {
+        this.fileService = fileService;
+        this.executor = executor;
+    }
+
+    public CompletableFuture<AssertableResponse> uploadFile(Path path){
+        return Async.discardingResponse(fileService.uploadFileAsync(path));
+    }
+
+    public CompletableFuture<AssertableResponse> downloadBaseImage(){
+        return Async.discardingResponse(fileService.downloadBaseImageAsync());
+    }
+
+    public CompletableFuture<AssertableResponse> downloadLastFile(){
+        return Async.discardingResponse(fileService.downloadLastFileAsync());
+    }
+
+    public CompletableFuture<FileDigest> downloadBaseImageDigest(){
+        return Async.discarding(Async.supply(fileService::downloadBaseImageDigest, executor), digest -> { });
+    }
+
+    public CompletableFuture<FileDigest> downloadLastFileDigest(){
+        return Async.discarding(Async.supply(fileService::downloadLastFileDigest, executor), digest -> { });
+    }
+}
@@ -0,0 +1,46 @@
+package services;
+
+import assertions.AssertableResponse;
+import models.swager.FullUser;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Async variants of {@link UserService}. Responses of cancelled calls are discarded through
+ * {@link Async#discardingResponse}.
+ */
+public class AsyncUserService {
+    private final UserService userService;
+
+    public AsyncUserService() {
+        this(new UserService());
+    }
+
+    public AsyncUserService(UserService userService) {
+        this.userService = userService;
+    }
+
+    public CompletableFuture<AssertableResponse> register(FullUser user){
+        return Async.discardingResponse(userService.registerAsync(user));
+    }
+
+    public CompletableFuture<AssertableResponse> auth(FullUser user){
+        return Async.discardingResponse(userService.authAsync(user));
+    }
+
+    public CompletableFuture<AssertableResponse> getUserInfo(String jwt){
+        return Async.discardingResponse(userService.getUserInfoAsync(jwt));
+    }
+
+    public CompletableFuture<AssertableResponse> updatePass(String newPassword, String jwt){
+        return Async.discardingResponse(userService.updatePassAsync(newPassword, jwt));
+    }
+
+    public CompletableFuture<AssertableResponse> deleteUser(String jwt){
+        return Async.discardingResponse(userService.deleteUserAsync(jwt));
+    }
+
+    public CompletableFuture<AssertableResponse> getAllUsers(){
+        return Async.discardingResponse(userService.getAllUsersAsync());
+    }
+}
@@ -0,0 +1,47 @@
+package services;
+
+import assertions.AssertableResponse;
+import io.restassured.specification.RequestSpecification;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Services carry their own {@link Transport} instead of relying on the global
+ * {@code RestAssured} statics, so instances can be used from parallel tests and moved onto
+ * the JDK client with {@code api.transport=jdk}.
+ */
+public abstract class BaseService {
+    private final Transport transport;
+
+    protected BaseService() {
+        this(Transports.api());
+    }
+
+    protected BaseService(RequestSpecification spec) {
+        this(spec, spec);
+    }
+
+    protected BaseService(RequestSpecification spec, RequestSpecification rawSpec) {
+        this(new RestAssuredTransport(spec, rawSpec));
+    }
+
+    protected BaseService(Transport transport) {
+        this.transport = transport;
+    }
+
+    protected String baseUri() {
+        return transport.baseUri();
+    }
+
+    protected AssertableResponse send(ApiRequest.ApiRequestBuilder request) {
+        return new AssertableResponse(transport.send(request.build()));
+    }
+
+    protected CompletableFuture<AssertableResponse> sendAsync(ApiRequest.ApiRequestBuilder request) {
+        return transport.sendAsync(request.build()).thenApply(AssertableResponse::new);
+    }
+
+    protected StreamedResponse open(ApiRequest.ApiRequestBuilder request) {
+        return transport.open(request.build());
+    }
+}
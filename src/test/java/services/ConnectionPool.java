@@ -0,0 +1,100 @@
+package services;
+
+import io.restassured.config.HttpClientConfig;
+import lombok.Builder;
+import lombok.Getter;
+import org.apache.http.impl.client.DefaultConnectionKeepAliveStrategy;
+import org.apache.http.impl.client.DefaultHttpClient;
+import org.apache.http.impl.conn.PoolingClientConnectionManager;
+import org.apache.http.params.CoreConnectionPNames;
+import org.apache.http.params.HttpConnectionParams;
+import org.apache.http.pool.PoolStats;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Keep-alive connection pool shared by all services. REST Assured still requires an
+ * {@code AbstractHttpClient}, hence the deprecated client and connection manager types.
+ */
+@SuppressWarnings("deprecation")
+public class ConnectionPool {
+    private final Settings settings;
+    private final PoolingClientConnectionManager manager;
+    private final DefaultHttpClient client;
+    private final ScheduledExecutorService evictor;
+
+    public ConnectionPool(Settings settings) {
+        this.settings = settings;
+        manager = new PoolingClientConnectionManager();
+        manager.setMaxTotal(settings.getMaxTotal());
+        manager.setDefaultMaxPerRoute(settings.getMaxPerRoute());
+
+        client = new DefaultHttpClient(manager);
+        HttpConnectionParams.setConnectionTimeout(client.getParams(), settings.getConnectTimeoutMs());
+        HttpConnectionParams.setSoTimeout(client.getParams(), settings.getReadTimeoutMs());
+        client.setKeepAliveStrategy((response, context) -> {
+            long announced = DefaultConnectionKeepAliveStrategy.INSTANCE.getKeepAliveDuration(response, context);
+            return announced > 0 ? Math.min(announced, settings.getKeepAliveMs()) : settings.getKeepAliveMs();
+        });
+
+        evictor = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "connection-evictor");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long period = Math.max(settings.getIdleEvictMs() / 2, 1000);
+        evictor.scheduleAtFixedRate(() -> {
+            manager.closeExpiredConnections();
+            manager.closeIdleConnections(settings.getIdleEvictMs(), TimeUnit.MILLISECONDS);
+        }, period, period, TimeUnit.MILLISECONDS);
+    }
+
+    public static ConnectionPool shared() {
+        return Holder.pool;
+    }
+
+    public HttpClientConfig httpClientConfig() {
+        return HttpClientConfig.httpClientConfig()
+                .reuseHttpClientInstance()
+                .httpClientFactory(() -> client)
+                .setParam(CoreConnectionPNames.CONNECTION_TIMEOUT, settings.getConnectTimeoutMs())
+                .setParam(CoreConnectionPNames.SO_TIMEOUT, settings.getReadTimeoutMs());
+    }
+
+    public PoolStats stats() {
+        return manager.getTotalStats();
+    }
+
+    public void shutdown() {
+        evictor.shutdownNow();
+        manager.shutdown();
+    }
+
+    @Getter
+    @Builder
+    public static class Settings {
+        private final int maxTotal;
+        private final int maxPerRoute;
+        private final long keepAliveMs;
+        private final long idleEvictMs;
+        private final int connectTimeoutMs;
+        private final int readTimeoutMs;
+
+        public static Settings fromSystemProperties() {
+            return Settings.builder()
+                    .maxTotal(Integer.getInteger("api.pool.maxTotal", 200))
+                    .maxPerRoute(Integer.getInteger("api.pool.maxPerRoute", 50))
+                    .keepAliveMs(Long.getLong("api.pool.keepAliveMs", 30_000))
+                    .idleEvictMs(Long.getLong("api.pool.idleEvictMs", 30_000))
+                    .connectTimeoutMs(Integer.getInteger("api.connectTimeoutMs", 10_000))
+                    .readTimeoutMs(Integer.getInteger("api.readTimeoutMs", 30_000))
+                    .build();
+        }
+    }
+
+    private static class Holder {
+        private static final ConnectionPool pool = new ConnectionPool(Settings.fromSystemProperties());
+    }
+}
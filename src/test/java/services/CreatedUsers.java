@@ -0,0 +1,95 @@
+package services;
+
+import lombok.Value;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Run-wide record of the users registered through {@link UserService} or any request sent
+ * with {@link Specs#api()}, with the API they were created on and their current passwords,
+ * so they can be deleted there when the run ends. Tokens issued to these users are
+ * remembered to follow password changes and deletions.
+ */
+public class CreatedUsers {
+    private static final CreatedUsers INSTANCE = new CreatedUsers();
+
+    private final Map<User, String> passwords = new ConcurrentHashMap<>();
+    private final Map<String, User> usersByToken = new ConcurrentHashMap<>();
+
+    private CreatedUsers() {
+    }
+
+    public static CreatedUsers shared() {
+        return INSTANCE;
+    }
+
+    void registered(String baseUri, String login, String pass) {
+        if (baseUri != null && login != null && pass != null) {
+            passwords.put(new User(target(baseUri), login), pass);
+        }
+    }
+
+    void tokenIssued(String baseUri, String login, String token) {
+        if (baseUri == null || login == null || token == null) {
+            return;
+        }
+        User user = new User(target(baseUri), login);
+        if (passwords.containsKey(user)) {
+            usersByToken.put(token, user);
+        }
+    }
+
+    void passwordChanged(String token, String pass) {
+        User user = token == null ? null : usersByToken.get(token);
+        if (user != null && pass != null) {
+            passwords.replace(user, pass);
+        }
+    }
+
+    void deleted(String token) {
+        User user = token == null ? null : usersByToken.remove(token);
+        if (user != null) {
+            passwords.remove(user);
+            usersByToken.values().removeIf(user::equals);
+        }
+    }
+
+    /**
+     * Current password of a user created on the given API, or {@code null} once the user
+     * has been deleted or was never recorded.
+     */
+    public String password(String baseUri, String login) {
+        return baseUri == null || login == null ? null : passwords.get(new User(target(baseUri), login));
+    }
+
+    /**
+     * Removes every recorded user and returns their passwords by login, grouped by the base
+     * URI of the API they were created on.
+     */
+    public Map<String, Map<String, String>> drain() {
+        Map<String, Map<String, String>> drained = new ConcurrentHashMap<>();
+        passwords.keySet().forEach(user -> {
+            String pass = passwords.remove(user);
+            if (pass != null) {
+                drained.computeIfAbsent(user.getBaseUri(), uri -> new ConcurrentHashMap<>()).put(user.getLogin(), pass);
+            }
+        });
+        usersByToken.clear();
+        return drained;
+    }
+
+    private static String target(String baseUri) {
+        String target = baseUri;
+        while (target.endsWith("/")) {
+            target = target.substring(0, target.length() - 1);
+        }
+        return target;
+    }
+
+    @Value
+    private static class User {
+        String baseUri;
+        String login;
+    }
+}
@@ -0,0 +1,87 @@
+package services;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import io.restassured.authentication.PreemptiveOAuth2Scheme;
+import io.restassured.filter.Filter;
+import io.restassured.filter.FilterContext;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+import utils.Json;
+import utils.LatencyFilter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Feeds {@link CreatedUsers} from every request sent with {@link Specs#api()}, so users
+ * created through plain REST Assured calls are cleaned up as well as those created through
+ * {@link UserService}.
+ */
+class CreatedUsersFilter implements Filter {
+    private static final CreatedUsersFilter INSTANCE = new CreatedUsersFilter();
+    private static final CreatedUsers CREATED_USERS = CreatedUsers.shared();
+
+    private CreatedUsersFilter() {
+    }
+
+    static CreatedUsersFilter shared() {
+        return INSTANCE;
+    }
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec,
+                           FilterableResponseSpecification responseSpec,
+                           FilterContext ctx) {
+        Response response = ctx.next(requestSpec, responseSpec);
+        String call = requestSpec.getMethod() + " " + LatencyFilter.endpoint(requestSpec.getUserDefinedPath());
+        switch (call) {
+            case "POST api/signup":
+                if (response.statusCode() == 201) {
+                    JsonNode user = json(requestSpec.getBody());
+                    CREATED_USERS.registered(requestSpec.getBaseUri(), user.path("login").asText(null), user.path("pass").asText(null));
+                }
+                break;
+            case "POST api/login":
+                if (response.statusCode() == 200) {
+                    CREATED_USERS.tokenIssued(requestSpec.getBaseUri(), json(requestSpec.getBody()).path("username").asText(null),
+                            json(response.asByteArray()).path("token").asText(null));
+                }
+                break;
+            case "PUT api/user":
+                if (response.statusCode() == 200) {
+                    CREATED_USERS.passwordChanged(token(requestSpec), json(requestSpec.getBody()).path("password").asText(null));
+                }
+                break;
+            case "DELETE api/user":
+                if (response.statusCode() == 200) {
+                    CREATED_USERS.deleted(token(requestSpec));
+                }
+                break;
+            default:
+                break;
+        }
+        return response;
+    }
+
+    private static String token(FilterableRequestSpecification request) {
+        if (request.getAuthenticationScheme() instanceof PreemptiveOAuth2Scheme) {
+            return ((PreemptiveOAuth2Scheme) request.getAuthenticationScheme()).getAccessToken();
+        }
+        String authorization = request.getHeaders().getValue("Authorization");
+        return authorization != null && authorization.startsWith("Bearer ") ? authorization.substring(7) : null;
+    }
+
+    private static JsonNode json(Object body) {
+        if (body == null) {
+            return Json.mapper().missingNode();
+        }
+        try {
+            return body instanceof byte[]
+                    ? Json.mapper().readTree((byte[]) body)
+                    : Json.mapper().readTree(String.valueOf(body).getBytes(StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            return Json.mapper().missingNode();
+        }
+    }
+}
@@ -1,29 +1,125 @@
 package services;
 
 import assertions.AssertableResponse;
-import io.restassured.http.ContentType;
+import io.restassured.specification.RequestSpecification;
 import lombok.SneakyThrows;
+import utils.FileDigest;
+import utils.MappedFileInputStream;
 
 import java.io.File;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.CompletableFuture;
 
-import static io.restassured.RestAssured.given;
+public class FileService extends BaseService {
+    private static final String UPLOAD_NAME = "myFile";
+    private static final String BASE_IMAGE = "/api/files/download";
+    private static final String LAST_UPLOADED = "/api/files/downloadLastUploaded";
+
+    public FileService() {
+    }
+
+    public FileService(RequestSpecification spec) {
+        super(spec);
+    }
+
+    public FileService(Transport transport) {
+        super(transport);
+    }
 
-public class FileService {
     public AssertableResponse downloadBaseImage(){
-        return new AssertableResponse(given().get("/api/files/download").then());
+        return send(ApiRequest.get(BASE_IMAGE));
     }
 
     public AssertableResponse downloadLastFile(){
-        return new AssertableResponse(given().get("/api/files/downloadLastUploaded").then());
+        return send(ApiRequest.get(LAST_UPLOADED));
+    }
+
+    public CompletableFuture<AssertableResponse> downloadBaseImageAsync(){
+        return sendAsync(ApiRequest.get(BASE_IMAGE));
+    }
+
+    public CompletableFuture<AssertableResponse> downloadLastFileAsync(){
+        return sendAsync(ApiRequest.get(LAST_UPLOADED));
+    }
+
+    public FileDigest downloadBaseImageDigest(){
+        return download(BASE_IMAGE, null);
+    }
+
+    public FileDigest downloadLastFileDigest(){
+        return download(LAST_UPLOADED, null);
+    }
+
+    public FileDigest downloadLastFileTo(Path target){
+        return download(LAST_UPLOADED, target);
     }
 
-    @SneakyThrows
     public AssertableResponse uploadFile(File file){
-        return new AssertableResponse(given()
-                .contentType(ContentType.MULTIPART)
-                .multiPart("file", "myFile", Files.readAllBytes(file.toPath()))
-                .post("/api/files/upload").then());
+        return uploadFile(file.toPath());
+    }
+
+    /**
+     * Streams the file from disk with a known content length.
+     */
+    public AssertableResponse uploadFile(Path path){
+        return upload(filePart(path));
+    }
+
+    public CompletableFuture<AssertableResponse> uploadFileAsync(Path path){
+        return sendAsync(ApiRequest.post("/api/files/upload").part(filePart(path)));
+    }
+
+    /**
+     * Sends the stream with chunked transfer encoding; the stream is closed once written.
+     */
+    public AssertableResponse uploadStream(InputStream stream){
+        return upload(ApiRequest.Part.builder()
+                .controlName("file")
+                .fileName(UPLOAD_NAME)
+                .stream(stream)
+                .build());
+    }
+
+    @SneakyThrows
+    public AssertableResponse uploadMapped(Path path){
+        try (InputStream stream = new MappedFileInputStream(path)) {
+            return uploadStream(stream);
+        }
+    }
+
+    /**
+     * Streams the body through the digest (and into {@code target} when given) without
+     * buffering it on the heap.
+     */
+    @SneakyThrows
+    private FileDigest download(String path, Path target){
+        try (StreamedResponse response = open(ApiRequest.get(path))) {
+            InputStream body = response.getBody();
+            if (response.getStatusCode() != 200) {
+                throw new IllegalStateException("GET " + path + " returned " + response.getStatusCode());
+            }
+            if (target == null) {
+                return FileDigest.of(body);
+            }
+            try (OutputStream out = Files.newOutputStream(target)) {
+                return FileDigest.copy(body, out);
+            }
+        }
+    }
+
+    private AssertableResponse upload(ApiRequest.Part part){
+        return send(ApiRequest.post("/api/files/upload").part(part));
+    }
+
+    private static ApiRequest.Part filePart(Path path){
+        return ApiRequest.Part.builder()
+                .controlName("file")
+                .fileName(UPLOAD_NAME)
+                .file(path)
+                .build();
     }
 
 }
@@ -0,0 +1,163 @@
+package services;
+
+import assertions.LatencyRegistry;
+import assertions.ResponseView;
+import utils.ApiConfig;
+import utils.CassetteFilter;
+import utils.Json;
+import utils.LatencyFilter;
+import utils.Resilience;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * HTTP/2 transport on {@link HttpClient}. Only latency recording and blocking retries apply:
+ * no logging, Allure or cassettes, async sends are single attempts, and {@code asResponse()} throws.
+ */
+public class JdkHttpTransport implements Transport {
+    private final HttpClient client;
+    private final URI baseUri;
+    private final Duration requestTimeout;
+
+    public JdkHttpTransport(String baseUri) {
+        if (CassetteFilter.enabled()) {
+            throw new IllegalStateException("api.cassette.mode is not supported with api.transport=jdk");
+        }
+        this.baseUri = URI.create(baseUri.endsWith("/") ? baseUri : baseUri + "/");
+        this.requestTimeout = Duration.ofMillis(Integer.getInteger("api.readTimeoutMs", 30_000));
+        this.client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_2)
+                .connectTimeout(Duration.ofMillis(Integer.getInteger("api.connectTimeoutMs", 10_000)))
+                .executor(Async.executor())
+                .build();
+    }
+
+    public static JdkHttpTransport shared() {
+        return Holder.INSTANCE;
+    }
+
+    @Override
+    public String baseUri() {
+        return baseUri.toString();
+    }
+
+    @Override
+    public ResponseView send(ApiRequest request) {
+        return Resilience.shared().call(request.getMethod(), request.getPath(), () -> sendOnce(request),
+                ResponseView::statusCode, view -> { });
+    }
+
+    private ResponseView sendOnce(ApiRequest request) {
+        HttpRequest httpRequest = build(request);
+        long start = System.nanoTime();
+        try {
+            return view(request, client.send(httpRequest, HttpResponse.BodyHandlers.ofByteArray()), start);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while calling " + request.getMethod() + " " + request.getPath(), e);
+        }
+    }
+
+    @Override
+    public CompletableFuture<ResponseView> sendAsync(ApiRequest request) {
+        HttpRequest httpRequest = build(request);
+        long start = System.nanoTime();
+        return client.sendAsync(httpRequest, HttpResponse.BodyHandlers.ofByteArray())
+                .thenApply(LatencyRegistry.inScope(response -> view(request, response, start)));
+    }
+
+    @Override
+    public StreamedResponse open(ApiRequest request) {
+        return Resilience.shared().call(request.getMethod(), request.getPath(), () -> openOnce(request),
+                StreamedResponse::getStatusCode, StreamedResponse::closeQuietly);
+    }
+
+    private StreamedResponse openOnce(ApiRequest request) {
+        try {
+            HttpResponse<InputStream> response = client.send(build(request), HttpResponse.BodyHandlers.ofInputStream());
+            return new StreamedResponse(response.statusCode(), response.body());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while calling " + request.getMethod() + " " + request.getPath(), e);
+        }
+    }
+
+    private HttpRequest build(ApiRequest request) {
+        String path = request.getPath().startsWith("/") ? request.getPath().substring(1) : request.getPath();
+        HttpRequest.Builder builder = HttpRequest.newBuilder(baseUri.resolve(path)).timeout(requestTimeout);
+        if (request.getToken() != null) {
+            builder.header("Authorization", "Bearer " + request.getToken());
+        }
+        HttpRequest.BodyPublisher body = HttpRequest.BodyPublishers.noBody();
+        if (request.getJson() != null) {
+            builder.header("Content-Type", "application/json");
+            body = HttpRequest.BodyPublishers.ofByteArray(json(request.getJson()));
+        } else if (request.getPart() != null) {
+            String boundary = "----ApiBoundary" + Long.toHexString(ThreadLocalRandom.current().nextLong());
+            builder.header("Content-Type", "multipart/form-data; boundary=" + boundary);
+            body = multipart(request.getPart(), boundary);
+        }
+        return builder.method(request.getMethod(), body).build();
+    }
+
+    private static byte[] json(Object value) {
+        try {
+            return Json.writer(value.getClass()).writeValueAsBytes(value);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static HttpRequest.BodyPublisher multipart(ApiRequest.Part part, String boundary) {
+        String head = "--" + boundary + "\r\n"
+                + "Content-Disposition: form-data; name=\"" + part.getControlName() + "\"; filename=\"" + part.getFileName() + "\"\r\n"
+                + "Content-Type: application/octet-stream\r\n\r\n";
+        String tail = "\r\n--" + boundary + "--\r\n";
+        HttpRequest.BodyPublisher content;
+        if (part.getFile() != null) {
+            try {
+                content = HttpRequest.BodyPublishers.ofFile(part.getFile());
+            } catch (FileNotFoundException e) {
+                throw new UncheckedIOException(e);
+            }
+        } else {
+            InputStream stream = part.getStream();
+            content = HttpRequest.BodyPublishers.ofInputStream(() -> stream);
+        }
+        return HttpRequest.BodyPublishers.concat(
+                HttpRequest.BodyPublishers.ofByteArray(head.getBytes(StandardCharsets.UTF_8)),
+                content,
+                HttpRequest.BodyPublishers.ofByteArray(tail.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private static ResponseView view(ApiRequest request, HttpResponse<byte[]> response, long start) {
+        long elapsedMicros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - start);
+        String endpoint = LatencyFilter.endpoint(request.getPath());
+        byte[] body = response.body();
+        long sent = response.request().bodyPublisher().map(HttpRequest.BodyPublisher::contentLength).orElse(0L);
+        LatencyRegistry.record(new LatencyRegistry.Exchange(request.getMethod(), endpoint, response.uri().toString(),
+                response.statusCode(), elapsedMicros, Math.max(0, sent), body.length, request.getJson(), null));
+        return ResponseView.of(request.getMethod(), endpoint, response.statusCode(),
+                response.headers().firstValue("Content-Type").orElse(null), elapsedMicros / 1000, body);
+    }
+
+    private static class Holder {
+        private static final JdkHttpTransport INSTANCE = new JdkHttpTransport(ApiConfig.baseUri());
+    }
+}
@@ -0,0 +1,61 @@
+package services;
+
+import assertions.ResponseView;
+import io.restassured.builder.MultiPartSpecBuilder;
+import io.restassured.http.ContentType;
+import io.restassured.response.Response;
+import io.restassured.specification.RequestSpecification;
+import io.restassured.specification.SpecificationQuerier;
+import utils.Resilience;
+
+import static io.restassured.RestAssured.given;
+
+public class RestAssuredTransport implements Transport {
+    private final RequestSpecification spec;
+    private final RequestSpecification rawSpec;
+
+    public RestAssuredTransport(RequestSpecification spec, RequestSpecification rawSpec) {
+        this.spec = spec;
+        this.rawSpec = rawSpec;
+    }
+
+    @Override
+    public String baseUri() {
+        return SpecificationQuerier.query(spec).getBaseUri();
+    }
+
+    @Override
+    public ResponseView send(ApiRequest request) {
+        return Resilience.shared().call(request.getMethod(), request.getPath(),
+                () -> ResponseView.of(prepare(given(spec), request)
+                        .request(request.getMethod(), request.getPath())
+                        .then()),
+                ResponseView::statusCode, ResponseView::body);
+    }
+
+    @Override
+    public StreamedResponse open(ApiRequest request) {
+        return Resilience.shared().call(request.getMethod(), request.getPath(), () -> {
+            Response response = prepare(given(rawSpec), request).request(request.getMethod(), request.getPath());
+            return new StreamedResponse(response.statusCode(), response.asInputStream());
+        }, StreamedResponse::getStatusCode, StreamedResponse::closeQuietly);
+    }
+
+    private static RequestSpecification prepare(RequestSpecification specification, ApiRequest request) {
+        if (request.getToken() != null) {
+            specification.auth().oauth2(request.getToken());
+        }
+        if (request.getJson() != null) {
+            specification.contentType(ContentType.JSON).body(request.getJson());
+        }
+        ApiRequest.Part part = request.getPart();
+        if (part != null) {
+            MultiPartSpecBuilder builder = part.getFile() != null
+                    ? new MultiPartSpecBuilder(part.getFile().toFile())
+                    : new MultiPartSpecBuilder(part.getStream());
+            specification.contentType(ContentType.MULTIPART)
+                    .multiPart(builder.controlName(part.getControlName()).fileName(part.getFileName()).build());
+        }
+        return specification;
+    }
+}
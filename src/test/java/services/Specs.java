@@ -0,0 +1,54 @@
+package services;
+
+import io.restassured.builder.RequestSpecBuilder;
+import io.restassured.config.ObjectMapperConfig;
+import io.restassured.config.RestAssuredConfig;
+import io.restassured.specification.RequestSpecification;
+import utils.ApiConfig;
+import utils.BufferedLogFilter;
+import utils.CassetteFilter;
+import utils.CustomTpl;
+import utils.Json;
+import utils.LatencyFilter;
+
+public class Specs {
+    private Specs() {
+    }
+
+    public static RequestSpecification api() {
+        return api(ApiConfig.baseUri());
+    }
+
+    public static RequestSpecification api(String baseUri) {
+        return base(baseUri)
+                .addFilter(BufferedLogFilter.shared())
+                .addFilter(CreatedUsersFilter.shared())
+                .addFilter(LatencyFilter.shared())
+                .addFilter(CustomTpl.customLogFilter().withCustomTemplates())
+                .addFilter(CassetteFilter.shared())
+                .build();
+    }
+
+    /**
+     * Same target and transport as {@link #api()} but without the reporting filters, which
+     * would buffer the response body. Used where bodies are consumed as streams.
+     */
+    public static RequestSpecification raw() {
+        return raw(ApiConfig.baseUri());
+    }
+
+    public static RequestSpecification raw(String baseUri) {
+        return base(baseUri)
+                .addFilter(CassetteFilter.shared())
+                .build();
+    }
+
+    private static RequestSpecBuilder base(String baseUri) {
+        return new RequestSpecBuilder()
+                .setBaseUri(baseUri)
+                .setConfig(RestAssuredConfig.config()
+                        .httpClient(ConnectionPool.shared().httpClientConfig())
+                        .objectMapperConfig(ObjectMapperConfig.objectMapperConfig()
+                                .jackson2ObjectMapperFactory((type, charset) -> Json.mapper())));
+    }
+}
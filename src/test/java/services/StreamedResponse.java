@@ -0,0 +1,32 @@
+package services;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Status and unread body of a response whose body is consumed as a stream. Closing it
+ * releases the connection.
+ */
+@Getter
+@RequiredArgsConstructor
+public class StreamedResponse implements Closeable {
+    private final int statusCode;
+    private final InputStream body;
+
+    @Override
+    public void close() throws IOException {
+        body.close();
+    }
+
+    void closeQuietly() {
+        try {
+            close();
+        } catch (IOException ignored) {
+            // the response is being discarded
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package services;
+
+import assertions.ResponseView;
+import com.fasterxml.jackson.databind.JsonNode;
+import lombok.RequiredArgsConstructor;
+import utils.Json;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Successful {@code api/login} responses keyed by login and password. An entry lives until
+ * shortly before the token's {@code exp} claim, or until the user's password is changed
+ * or the user is deleted.
+ */
+public class TokenCache {
+    private static final Duration FALLBACK_TTL = Duration.ofMinutes(5);
+    private static final Duration EXPIRY_MARGIN = Duration.ofSeconds(30);
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final Map<String, String> loginsByToken = new ConcurrentHashMap<>();
+    private final boolean enabled;
+
+    public TokenCache(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public ResponseView get(String login, String pass) {
+        if (!enabled || login == null || pass == null) {
+            return null;
+        }
+        String key = key(login, pass);
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            return null;
+        }
+        if (Instant.now().isAfter(entry.expiresAt)) {
+            entries.remove(key, entry);
+            loginsByToken.remove(entry.token);
+            return null;
+        }
+        return entry.response;
+    }
+
+    public void put(String login, String pass, ResponseView response) {
+        if (!enabled || login == null || pass == null || response.statusCode() != 200) {
+            return;
+        }
+        String token = response.as("token", String.class);
+        if (token == null) {
+            return;
+        }
+        entries.put(key(login, pass), new Entry(login, token, response, expiresAt(token)));
+        loginsByToken.put(token, login);
+    }
+
+    public String loginOf(String token) {
+        return token == null ? null : loginsByToken.get(token);
+    }
+
+    public void invalidateToken(String token) {
+        String login = loginOf(token);
+        if (login != null) {
+            invalidateLogin(login);
+        }
+    }
+
+    public void invalidateLogin(String login) {
+        entries.values().removeIf(entry -> {
+            if (entry.login.equals(login)) {
+                loginsByToken.remove(entry.token);
+                return true;
+            }
+            return false;
+        });
+    }
+
+    private static String key(String login, String pass) {
+        return login + '\u0000' + pass;
+    }
+
+    private static Instant expiresAt(String token) {
+        String[] parts = token.split("\\.");
+        if (parts.length == 3) {
+            try {
+                JsonNode exp = Json.mapper().readTree(Base64.getUrlDecoder().decode(parts[1])).get("exp");
+                if (exp != null && exp.canConvertToLong()) {
+                    return Instant.ofEpochSecond(exp.asLong()).minus(EXPIRY_MARGIN);
+                }
+            } catch (IllegalArgumentException | IOException ignored) {
+                // not a JWT we can read, fall back to a short TTL
+            }
+        }
+        return Instant.now().plus(FALLBACK_TTL);
+    }
+
+    @RequiredArgsConstructor
+    private static class Entry {
+        private final String login;
+        private final String token;
+        private final ResponseView response;
+        private final Instant expiresAt;
+    }
+}
@@ -0,0 +1,29 @@
+package services;
+
+import assertions.ResponseView;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Sends {@link ApiRequest}s for the services. {@link RestAssuredTransport} keeps the REST
+ * Assured filters (logging, Allure, latency, cassette); {@link JdkHttpTransport}
+ * trades most of them for the JDK client's HTTP/2 multiplexing and non-blocking I/O.
+ */
+public interface Transport {
+    String baseUri();
+
+    ResponseView send(ApiRequest request);
+
+    /**
+     * Returns the response with its body still unread, for bodies consumed as streams.
+     */
+    StreamedResponse open(ApiRequest request);
+
+    /**
+     * Blocks an {@link Async#executor()} thread per call unless the transport has
+     * non-blocking I/O of its own.
+     */
+    default CompletableFuture<ResponseView> sendAsync(ApiRequest request) {
+        return Async.supply(() -> send(request), Async.executor());
+    }
+}
@@ -0,0 +1,30 @@
+package services;
+
+/**
+ * Picks the transport from {@code api.transport}: {@code restassured} (the default) or
+ * {@code jdk}.
+ */
+public class Transports {
+    private static final boolean JDK = "jdk".equalsIgnoreCase(System.getProperty("api.transport", "restassured"));
+
+    private Transports() {
+    }
+
+    /**
+     * Transport for tests: with REST Assured, through the reporting filters of {@link Specs#api()}.
+     */
+    public static Transport api() {
+        return JDK ? JdkHttpTransport.shared() : new RestAssuredTransport(Specs.api(), Specs.raw());
+    }
+
+    /**
+     * Transport without per-call reporting, for load generation and housekeeping.
+     */
+    public static Transport raw() {
+        return JDK ? JdkHttpTransport.shared() : new RestAssuredTransport(Specs.raw(), Specs.raw());
+    }
+
+    public static Transport raw(String baseUri) {
+        return JDK ? new JdkHttpTransport(baseUri) : new RestAssuredTransport(Specs.raw(baseUri), Specs.raw(baseUri));
+    }
+}
@@ -0,0 +1,134 @@
+package services;
+
+import assertions.AssertableResponse;
+import lombok.Getter;
+import models.swager.FullUser;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Deletes users concurrently on {@code api.cleanup.threads} threads. Each user is logged in
+ * and deleted, retrying up to {@code api.cleanup.retries} times on server or transport errors;
+ * a rejected login means the user is already gone or no longer has the known password.
+ */
+public class UserCleanup {
+    private static final int THREADS = Integer.getInteger("api.cleanup.threads", 8);
+    private static final int RETRIES = Integer.getInteger("api.cleanup.retries", 3);
+    private static final long BACKOFF_MS = Long.getLong("api.cleanup.backoffMs", 200);
+
+    private final UserService userService;
+
+    public UserCleanup(UserService userService) {
+        this.userService = userService;
+    }
+
+    public Result deleteAll(Map<String, String> passwordsByLogin) {
+        Result result = new Result();
+        if (passwordsByLogin.isEmpty()) {
+            return result;
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(THREADS, passwordsByLogin.size()));
+        try {
+            List<Future<Outcome>> deletions = passwordsByLogin.entrySet().stream()
+                    .map(user -> executor.submit(() -> delete(user.getKey(), user.getValue())))
+                    .collect(Collectors.toList());
+            for (Future<Outcome> deletion : deletions) {
+                result.add(deletion.get());
+            }
+            return result;
+        } catch (Exception e) {
+            throw new IllegalStateException("User cleanup was interrupted", e);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * Deletes leftovers of earlier runs: every user whose login starts with {@code prefix},
+     * assuming it still has {@code pass}.
+     */
+    public Result sweep(String prefix, String pass) {
+        Map<String, String> leftovers;
+        try (Stream<String> logins = userService.streamAllUsers()) {
+            leftovers = logins.filter(login -> login.startsWith(prefix))
+                    .collect(Collectors.toMap(login -> login, login -> pass, (a, b) -> a));
+        }
+        return deleteAll(leftovers);
+    }
+
+    private Outcome delete(String login, String pass) {
+        FullUser user = FullUser.builder().login(login).pass(pass).build();
+        for (int attempt = 1; ; attempt++) {
+            try {
+                AssertableResponse auth = userService.auth(user);
+                if (auth.statusCode() == 401 || auth.statusCode() == 404) {
+                    return Outcome.NOT_FOUND;
+                }
+                if (auth.statusCode() == 200) {
+                    int status = userService.deleteUser(auth.asJwt()).statusCode();
+                    if (status == 200) {
+                        return Outcome.DELETED;
+                    }
+                    if (status == 404) {
+                        return Outcome.NOT_FOUND;
+                    }
+                }
+            } catch (RuntimeException ignored) {
+                // transport error, retried below
+            }
+            if (attempt >= RETRIES) {
+                return Outcome.FAILED;
+            }
+            try {
+                Thread.sleep(BACKOFF_MS * attempt);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return Outcome.FAILED;
+            }
+        }
+    }
+
+    private enum Outcome {
+        DELETED, NOT_FOUND, FAILED
+    }
+
+    /**
+     * Users deleted, users the API did not know (or no longer under the known password), and
+     * users that could not be deleted.
+     */
+    @Getter
+    public static class Result {
+        private int deleted;
+        private int notFound;
+        private int failed;
+
+        private void add(Outcome outcome) {
+            switch (outcome) {
+                case DELETED -> deleted++;
+                case NOT_FOUND -> notFound++;
+                default -> failed++;
+            }
+        }
+
+        public void add(Result other) {
+            deleted += other.deleted;
+            notFound += other.notFound;
+            failed += other.failed;
+        }
+
+        public int total() {
+            return deleted + notFound + failed;
+        }
+
+        @Override
+        public String toString() {
+            return "deleted " + deleted + ", not found " + notFound + ", failed " + failed + " of " + total();
+        }
+    }
+}
@@ -2,63 +2,179 @@ package services;
 
 
 import assertions.AssertableResponse;
+import assertions.ResponseView;
+import io.restassured.specification.RequestSpecification;
+import lombok.SneakyThrows;
 import models.swager.FullUser;
 import models.swager.JwtAuthData;
-import io.restassured.http.ContentType;
+import utils.JsonStreams;
 import java.util.HashMap;
 import java.util.Map;
-import static io.restassured.RestAssured.given;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
 
 
-public class UserService {
+public class UserService extends BaseService {
+    private static final TokenCache TOKEN_CACHE =
+            new TokenCache(Boolean.parseBoolean(System.getProperty("api.tokenCache", "true")));
+    private static final CreatedUsers CREATED_USERS = CreatedUsers.shared();
+
+    public UserService() {
+    }
+
+    public UserService(RequestSpecification spec) {
+        super(spec);
+    }
+
+    public UserService(Transport transport) {
+        super(transport);
+    }
+
     public AssertableResponse register(FullUser user){
-        return new AssertableResponse(given().contentType(ContentType.JSON)
-                .body(user)
-                .post("api/signup")
-                .then());
+        return registered(user, send(signup(user)));
+    }
+
+    public CompletableFuture<AssertableResponse> registerAsync(FullUser user){
+        return sendAsync(signup(user)).thenApply(response -> registered(user, response));
     }
 
     public AssertableResponse getUserInfo(String jwt){
-        return new AssertableResponse(given().auth().oauth2(jwt)
-                .get("api/user")
-                .then());
+        return send(ApiRequest.get("api/user").token(jwt));
+    }
+
+    public CompletableFuture<AssertableResponse> getUserInfoAsync(String jwt){
+        return sendAsync(ApiRequest.get("api/user").token(jwt));
     }
 
 
     public AssertableResponse getUserInfo(){
-        return new AssertableResponse(given()
-                .get("api/user")
-                .then());
+        return send(ApiRequest.get("api/user"));
     }
 
     public AssertableResponse updatePass(String newPassword, String jwt){
-        Map<String, String> password = new HashMap<>();
-        password.put("password", newPassword);
+        return passwordUpdated(newPassword, jwt, send(newPassword(newPassword, jwt)));
+    }
 
-        return new AssertableResponse(given().contentType(ContentType.JSON)
-                .auth().oauth2(jwt)
-                .body(password)
-                .put("api/user")
-                .then());
+    public CompletableFuture<AssertableResponse> updatePassAsync(String newPassword, String jwt){
+        return sendAsync(newPassword(newPassword, jwt))
+                .thenApply(response -> passwordUpdated(newPassword, jwt, response));
     }
 
     public AssertableResponse deleteUser(String jwt){
-        return new AssertableResponse(given().auth().oauth2(jwt)
-                .delete("api/user")
-                .then());
+        return deleted(jwt, send(ApiRequest.delete("api/user").token(jwt)));
+    }
+
+    public CompletableFuture<AssertableResponse> deleteUserAsync(String jwt){
+        return sendAsync(ApiRequest.delete("api/user").token(jwt)).thenApply(response -> deleted(jwt, response));
     }
 
     public AssertableResponse auth(FullUser fullUser){
-        JwtAuthData data = new JwtAuthData(fullUser.getLogin(), fullUser.getPass());
-        return new AssertableResponse(given().contentType(ContentType.JSON)
-                .body(data)
-                .post("api/login")
-                .then());
+        return authenticated(fullUser, send(login(fullUser)));
+    }
+
+    public CompletableFuture<AssertableResponse> authAsync(FullUser fullUser){
+        return sendAsync(login(fullUser)).thenApply(response -> authenticated(fullUser, response));
+    }
+
+    /**
+     * Token for fixtures and helpers: reuses a cached login while it is valid and only calls
+     * {@code api/login} otherwise. Tests of the login itself use {@link #auth(FullUser)}.
+     */
+    public String token(FullUser fullUser){
+        ResponseView cached = TOKEN_CACHE.get(fullUser.getLogin(), fullUser.getPass());
+        return cached != null ? cached.as("token", String.class) : auth(fullUser).asJwt();
+    }
+
+    /**
+     * Drops a cached login whose token the server no longer accepts.
+     */
+    public void forgetToken(String jwt){
+        TOKEN_CACHE.invalidateToken(jwt);
+    }
+
+    /**
+     * Password the user has now on this API as far as the run has seen, {@code null} once
+     * the user is deleted.
+     */
+    public String currentPass(FullUser fullUser){
+        return CREATED_USERS.password(baseUri(), fullUser.getLogin());
     }
 
     public AssertableResponse getAllUsers(){
-        return new AssertableResponse(given()
-                .get("api/users")
-                .then());
+        return send(ApiRequest.get("api/users"));
+    }
+
+    public CompletableFuture<AssertableResponse> getAllUsersAsync(){
+        return sendAsync(ApiRequest.get("api/users"));
+    }
+
+    /**
+     * Reads {@code api/users} element by element from the connection. The stream must be
+     * closed to release the connection.
+     */
+    @SneakyThrows
+    public Stream<String> streamAllUsers(){
+        StreamedResponse response = open(ApiRequest.get("api/users"));
+        if (response.getStatusCode() != 200) {
+            response.close();
+            throw new IllegalStateException("GET api/users returned " + response.getStatusCode());
+        }
+        return JsonStreams.stream(response.getBody(), String.class);
+    }
+
+    public long countUsers(Predicate<String> filter){
+        try (Stream<String> users = streamAllUsers()) {
+            return users.filter(filter).count();
+        }
+    }
+
+    public long countUsers(){
+        return countUsers(login -> true);
+    }
+
+    private static ApiRequest.ApiRequestBuilder signup(FullUser user){
+        return ApiRequest.post("api/signup").json(user);
+    }
+
+    private static ApiRequest.ApiRequestBuilder login(FullUser user){
+        return ApiRequest.post("api/login").json(new JwtAuthData(user.getLogin(), user.getPass()));
+    }
+
+    private static ApiRequest.ApiRequestBuilder newPassword(String newPassword, String jwt){
+        Map<String, String> password = new HashMap<>();
+        password.put("password", newPassword);
+        return ApiRequest.put("api/user").token(jwt).json(password);
+    }
+
+    private AssertableResponse registered(FullUser user, AssertableResponse response){
+        if (response.statusCode() == 201) {
+            CREATED_USERS.registered(baseUri(), user.getLogin(), user.getPass());
+        }
+        return response;
+    }
+
+    private AssertableResponse authenticated(FullUser user, AssertableResponse response){
+        TOKEN_CACHE.put(user.getLogin(), user.getPass(), response.view());
+        if (response.statusCode() == 200) {
+            CREATED_USERS.tokenIssued(baseUri(), user.getLogin(), response.asJwt());
+        }
+        return response;
+    }
+
+    private AssertableResponse passwordUpdated(String newPassword, String jwt, AssertableResponse response){
+        if (response.statusCode() == 200) {
+            TOKEN_CACHE.invalidateToken(jwt);
+            CREATED_USERS.passwordChanged(jwt, newPassword);
+        }
+        return response;
+    }
+
+    private AssertableResponse deleted(String jwt, AssertableResponse response){
+        if (response.statusCode() == 200) {
+            TOKEN_CACHE.invalidateToken(jwt);
+            CREATED_USERS.deleted(jwt);
+        }
+        return response;
     }
 }
@@ -0,0 +1,448 @@
+package stub;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import lombok.RequiredArgsConstructor;
+import models.swager.FullUser;
+import models.swager.Info;
+import models.swager.JwtAuthData;
+import utils.Json;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * In-process stand-in for the games/users/files API. Serves the same endpoints, status
+ * codes and {@link Info} messages as the shared backend, so the suites can run offline.
+ */
+public class StubApiServer {
+    private static final List<String> BASE_USERS = List.of("admin", "demo", "user");
+    private static final Duration TOKEN_TTL = Duration.ofHours(1);
+    private static final Base64.Encoder B64 = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder B64_DECODER = Base64.getUrlDecoder();
+    private static final AtomicReference<StubApiServer> SHARED = new AtomicReference<>();
+
+    private final Map<String, FullUser> users = new ConcurrentHashMap<>();
+    private final AtomicReference<Path> lastUploaded = new AtomicReference<>();
+    private final Map<String, Fault> faults = new ConcurrentHashMap<>();
+    private final byte[] secret = new byte[32];
+    private final byte[] baseImage = baseImage();
+    private final HttpServer server;
+    private final ExecutorService executor;
+
+    public StubApiServer() {
+        new SecureRandom().nextBytes(secret);
+        BASE_USERS.forEach(login -> users.put(login, FullUser.builder().login(login).pass(login).build()));
+        try {
+            server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        executor = Executors.newCachedThreadPool(r -> {
+            Thread thread = new Thread(r, "stub-api");
+            thread.setDaemon(true);
+            return thread;
+        });
+        server.setExecutor(executor);
+        server.createContext("/", this::handle);
+    }
+
+    public static StubApiServer shared() {
+        return Holder.server;
+    }
+
+    /**
+     * Stops the shared server if it was started. Its dispatcher thread is not a daemon and
+     * keeps the JVM alive otherwise.
+     */
+    public static void stopShared() {
+        StubApiServer shared = SHARED.getAndSet(null);
+        if (shared != null) {
+            shared.stop();
+        }
+    }
+
+    public StubApiServer start() {
+        server.start();
+        return this;
+    }
+
+    public void stop() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    /**
+     * Answers the next {@code times} requests carrying {@code token} with {@code status}.
+     */
+    public void failNext(String token, int status, int times) {
+        faults.put(token, new Fault(status, new AtomicInteger(times)));
+    }
+
+    public int pendingFailures(String token) {
+        Fault fault = faults.get(token);
+        return fault == null ? 0 : Math.max(0, fault.remaining.get());
+    }
+
+    public String baseUri() {
+        InetSocketAddress address = server.getAddress();
+        return "http://" + address.getAddress().getHostAddress() + ":" + address.getPort() + "/";
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try {
+            String path = exchange.getRequestURI().getPath().replaceAll("/+", "/");
+            String method = exchange.getRequestMethod();
+            if (injectFault(exchange)) {
+                return;
+            }
+            switch (method + " " + path) {
+                case "POST /api/signup" -> signup(exchange);
+                case "POST /api/login" -> login(exchange);
+                case "GET /api/user" -> getUser(exchange);
+                case "PUT /api/user" -> updatePass(exchange);
+                case "DELETE /api/user" -> deleteUser(exchange);
+                case "GET /api/users" -> listUsers(exchange);
+                case "POST /api/files/upload" -> upload(exchange);
+                case "GET /api/files/download" -> sendBytes(exchange, baseImage);
+                case "GET /api/files/downloadLastUploaded" -> downloadLastUploaded(exchange);
+                default -> sendInfo(exchange, 404, "fail", "Not found");
+            }
+        } catch (JsonProcessingException e) {
+            sendInfo(exchange, 400, "fail", "Invalid request body");
+        } catch (RuntimeException e) {
+            sendInfo(exchange, 500, "fail", String.valueOf(e.getMessage()));
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private boolean injectFault(HttpExchange exchange) throws IOException {
+        String header = exchange.getRequestHeaders().getFirst("Authorization");
+        Fault fault = header != null && header.startsWith("Bearer ") ? faults.get(header.substring(7).trim()) : null;
+        if (fault == null || fault.remaining.getAndDecrement() <= 0) {
+            return false;
+        }
+        sendInfo(exchange, fault.status, "fail", "Injected failure");
+        return true;
+    }
+
+    private void signup(HttpExchange exchange) throws IOException {
+        FullUser user = Json.reader(FullUser.class).readValue(exchange.getRequestBody());
+        if (isBlank(user.getLogin()) || isBlank(user.getPass())) {
+            sendInfo(exchange, 400, "fail", "Missing login or password");
+            return;
+        }
+        if (users.putIfAbsent(user.getLogin(), user) != null) {
+            sendInfo(exchange, 400, "fail", "Login already exist");
+            return;
+        }
+        sendInfo(exchange, 201, "success", "User created");
+    }
+
+    private void login(HttpExchange exchange) throws IOException {
+        JwtAuthData data = Json.reader(JwtAuthData.class).readValue(exchange.getRequestBody());
+        FullUser user = data.getUsername() == null ? null : users.get(data.getUsername());
+        if (user == null || !user.getPass().equals(data.getPassword())) {
+            sendInfo(exchange, 401, "fail", "Wrong login or password");
+            return;
+        }
+        sendJson(exchange, 200, Map.of("token", issueToken(user.getLogin())));
+    }
+
+    private void getUser(HttpExchange exchange) throws IOException {
+        FullUser user = authorize(exchange);
+        if (user != null) {
+            sendJson(exchange, 200, user);
+        }
+    }
+
+    private void updatePass(HttpExchange exchange) throws IOException {
+        FullUser user = authorize(exchange);
+        if (user == null) {
+            return;
+        }
+        if (BASE_USERS.contains(user.getLogin())) {
+            sendInfo(exchange, 400, "fail", "Cant update base users");
+            return;
+        }
+        JsonNode password = Json.mapper().readTree(exchange.getRequestBody()).get("password");
+        if (password == null || isBlank(password.asText())) {
+            sendInfo(exchange, 400, "fail", "Missing password");
+            return;
+        }
+        users.computeIfPresent(user.getLogin(), (login, stored) -> FullUser.builder()
+                .login(login)
+                .pass(password.asText())
+                .games(stored.getGames())
+                .build());
+        sendInfo(exchange, 200, "success", "User password successfully changed");
+    }
+
+    private void deleteUser(HttpExchange exchange) throws IOException {
+        FullUser user = authorize(exchange);
+        if (user == null) {
+            return;
+        }
+        if (BASE_USERS.contains(user.getLogin())) {
+            sendInfo(exchange, 400, "fail", "Cant delete base users");
+            return;
+        }
+        users.remove(user.getLogin());
+        sendInfo(exchange, 200, "success", "User successfully deleted");
+    }
+
+    private void listUsers(HttpExchange exchange) throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, 0);
+        try (JsonGenerator generator = Json.mapper().getFactory().createGenerator(exchange.getResponseBody())) {
+            generator.writeStartArray();
+            for (String login : users.keySet()) {
+                generator.writeString(login);
+            }
+            generator.writeEndArray();
+        }
+    }
+
+    private void upload(HttpExchange exchange) throws IOException {
+        String contentType = exchange.getRequestHeaders().getFirst("Content-Type");
+        int boundaryIndex = contentType == null ? -1 : contentType.indexOf("boundary=");
+        if (boundaryIndex < 0) {
+            sendInfo(exchange, 400, "fail", "File is missing");
+            return;
+        }
+        String boundary = contentType.substring(boundaryIndex + "boundary=".length()).split(";")[0].replace("\"", "");
+        Path target = Files.createTempFile("stub-upload", ".bin");
+        target.toFile().deleteOnExit();
+        if (!MultipartReader.copyPart(exchange.getRequestBody(), boundary, "file", target)) {
+            Files.deleteIfExists(target);
+            sendInfo(exchange, 400, "fail", "File is missing");
+            return;
+        }
+        Path previous = lastUploaded.getAndSet(target);
+        if (previous != null) {
+            Files.deleteIfExists(previous);
+        }
+        sendInfo(exchange, 200, "success", "file uploaded to server");
+    }
+
+    private void downloadLastUploaded(HttpExchange exchange) throws IOException {
+        Path path = lastUploaded.get();
+        if (path == null) {
+            sendInfo(exchange, 404, "fail", "No uploaded files");
+            return;
+        }
+        exchange.getResponseHeaders().set("Content-Type", "application/octet-stream");
+        exchange.sendResponseHeaders(200, Files.size(path));
+        try (OutputStream body = exchange.getResponseBody()) {
+            Files.copy(path, body);
+        }
+    }
+
+    private FullUser authorize(HttpExchange exchange) throws IOException {
+        String header = exchange.getRequestHeaders().getFirst("Authorization");
+        String login = header != null && header.startsWith("Bearer ") ? verifyToken(header.substring(7).trim()) : null;
+        FullUser user = login == null ? null : users.get(login);
+        if (user == null) {
+            sendInfo(exchange, 401, "fail", "Unauthorized");
+        }
+        return user;
+    }
+
+    private String issueToken(String login) throws IOException {
+        Instant now = Instant.now();
+        Map<String, Object> claims = new LinkedHashMap<>();
+        claims.put("sub", login);
+        claims.put("iat", now.getEpochSecond());
+        claims.put("exp", now.plus(TOKEN_TTL).getEpochSecond());
+        String unsigned = B64.encodeToString("{\"alg\":\"HS256\",\"typ\":\"JWT\"}".getBytes(StandardCharsets.UTF_8))
+                + "." + B64.encodeToString(Json.mapper().writeValueAsBytes(claims));
+        return unsigned + "." + B64.encodeToString(sign(unsigned));
+    }
+
+    private String verifyToken(String token) {
+        String[] parts = token.split("\\.");
+        if (parts.length != 3) {
+            return null;
+        }
+        try {
+            byte[] signature = B64_DECODER.decode(parts[2]);
+            if (!MessageDigest.isEqual(signature, sign(parts[0] + "." + parts[1]))) {
+                return null;
+            }
+            JsonNode claims = Json.mapper().readTree(B64_DECODER.decode(parts[1]));
+            if (claims.path("exp").asLong() < Instant.now().getEpochSecond()) {
+                return null;
+            }
+            return claims.path("sub").asText(null);
+        } catch (IllegalArgumentException | IOException e) {
+            return null;
+        }
+    }
+
+    private byte[] sign(String payload) {
+        try {
+            Mac mac = Mac.getInstance("HmacSHA256");
+            mac.init(new SecretKeySpec(secret, "HmacSHA256"));
+            return mac.doFinal(payload.getBytes(StandardCharsets.UTF_8));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void sendInfo(HttpExchange exchange, int status, String infoStatus, String message) throws IOException {
+        sendJson(exchange, status, Map.of("info", Info.builder().status(infoStatus).message(message).build()));
+    }
+
+    private static void sendJson(HttpExchange exchange, int status, Object body) throws IOException {
+        byte[] bytes = Json.mapper().writeValueAsBytes(body);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        exchange.getResponseBody().write(bytes);
+    }
+
+    private static void sendBytes(HttpExchange exchange, byte[] bytes) throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", "image/jpeg");
+        exchange.sendResponseHeaders(200, bytes.length);
+        exchange.getResponseBody().write(bytes);
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+
+    private static byte[] baseImage() {
+        byte[] image = new byte[4096];
+        new java.util.Random(42).nextBytes(image);
+        image[0] = (byte) 0xFF;
+        image[1] = (byte) 0xD8;
+        image[image.length - 2] = (byte) 0xFF;
+        image[image.length - 1] = (byte) 0xD9;
+        return image;
+    }
+
+    /**
+     * Streams a single part of a multipart/form-data body to disk without buffering it.
+     */
+    static class MultipartReader {
+        private MultipartReader() {
+        }
+
+        static boolean copyPart(InputStream body, String boundary, String name, Path target) throws IOException {
+            InputStream in = new BufferedInputStream(body);
+            byte[] delimiter = ("\r\n--" + boundary).getBytes(StandardCharsets.ISO_8859_1);
+            String firstLine;
+            do {
+                firstLine = readLine(in);
+            } while (firstLine != null && !firstLine.equals("--" + boundary));
+            if (firstLine == null) {
+                return false;
+            }
+            boolean found = false;
+            while (true) {
+                boolean matches = false;
+                String header;
+                while ((header = readLine(in)) != null && !header.isEmpty()) {
+                    if (header.toLowerCase().startsWith("content-disposition") && header.contains("name=\"" + name + "\"")) {
+                        matches = true;
+                    }
+                }
+                if (header == null) {
+                    return found;
+                }
+                if (matches && !found) {
+                    try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(target))) {
+                        copyUntil(in, delimiter, out);
+                    }
+                    found = true;
+                } else {
+                    copyUntil(in, delimiter, OutputStream.nullOutputStream());
+                }
+                int first = in.read();
+                int second = in.read();
+                if (first == -1 || (first == '-' && second == '-')) {
+                    in.transferTo(OutputStream.nullOutputStream());
+                    return found;
+                }
+            }
+        }
+
+        private static void copyUntil(InputStream in, byte[] delimiter, OutputStream out) throws IOException {
+            int matched = 0;
+            int b;
+            while ((b = in.read()) != -1) {
+                if (b == (delimiter[matched] & 0xFF)) {
+                    if (++matched == delimiter.length) {
+                        return;
+                    }
+                    continue;
+                }
+                if (matched > 0) {
+                    out.write(delimiter, 0, matched);
+                    matched = 0;
+                    if (b == (delimiter[0] & 0xFF)) {
+                        matched = 1;
+                        continue;
+                    }
+                }
+                out.write(b);
+            }
+            throw new IOException("Multipart body ended before closing boundary");
+        }
+
+        private static String readLine(InputStream in) throws IOException {
+            StringBuilder line = new StringBuilder();
+            int b;
+            while ((b = in.read()) != -1) {
+                if (b == '\n') {
+                    int last = line.length() - 1;
+                    return last >= 0 && line.charAt(last) == '\r' ? line.substring(0, last) : line.toString();
+                }
+                line.append((char) b);
+            }
+            return line.length() == 0 ? null : line.toString();
+        }
+    }
+
+    @RequiredArgsConstructor
+    private static class Fault {
+        private final int status;
+        private final AtomicInteger remaining;
+    }
+
+    private static class Holder {
+        private static final StubApiServer server = new StubApiServer().start();
+
+        static {
+            SHARED.set(server);
+        }
+    }
+}
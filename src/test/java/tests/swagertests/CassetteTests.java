@@ -0,0 +1,80 @@
+package tests.swagertests;
+
+import io.restassured.filter.Filter;
+import io.restassured.http.ContentType;
+import io.restassured.response.Response;
+import listener.ShardCondition;
+import models.swager.FullUser;
+import models.swager.JwtAuthData;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import stub.StubApiServer;
+import utils.CassetteFilter;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import static io.restassured.RestAssured.given;
+import static utils.RandomTestData.getRandomUser;
+
+@ExtendWith(ShardCondition.class)
+public class CassetteTests {
+    private static final String UNREACHABLE = "http://127.0.0.1:9";
+
+    @TempDir
+    Path dir;
+
+    @Test
+    public void positiveReplayWithNewTestDataTest(){
+        CassetteFilter recorder = new CassetteFilter(CassetteFilter.Mode.RECORD, dir);
+        List<Response> recorded = CassetteFilter.inScope("lifecycle",
+                () -> lifecycle(recorder, StubApiServer.shared().baseUri(), getRandomUser()));
+        recorder.close();
+
+        CassetteFilter player = new CassetteFilter(CassetteFilter.Mode.REPLAY, dir);
+        List<Response> replayed = CassetteFilter.inScope("lifecycle",
+                () -> lifecycle(player, UNREACHABLE, getRandomUser()));
+
+        Assertions.assertEquals(recorded.size(), replayed.size());
+        for (int i = 0; i < recorded.size(); i++) {
+            Assertions.assertEquals(recorded.get(i).statusCode(), replayed.get(i).statusCode());
+            Assertions.assertEquals(recorded.get(i).asString(), replayed.get(i).asString());
+        }
+    }
+
+    @Test
+    public void negativeReplayWithoutCassetteTest(){
+        CassetteFilter player = new CassetteFilter(CassetteFilter.Mode.REPLAY, dir);
+        Assertions.assertThrows(IllegalStateException.class,
+                () -> given().baseUri(UNREACHABLE).filter(player).get("/api/users"));
+    }
+
+    @Test
+    public void negativeReplayPastRecordedCallsTest(){
+        CassetteFilter recorder = new CassetteFilter(CassetteFilter.Mode.RECORD, dir);
+        CassetteFilter.inScope("users", () -> given().baseUri(StubApiServer.shared().baseUri()).filter(recorder).get("/api/users"));
+        recorder.close();
+
+        CassetteFilter player = new CassetteFilter(CassetteFilter.Mode.REPLAY, dir);
+        IllegalStateException error = CassetteFilter.inScope("users", () -> {
+            given().baseUri(UNREACHABLE).filter(player).get("/api/users");
+            return Assertions.assertThrows(IllegalStateException.class,
+                    () -> given().baseUri(UNREACHABLE).filter(player).get("/api/users"));
+        });
+        Assertions.assertTrue(error.getMessage().contains("users#2 GET /api/users"), error.getMessage());
+    }
+
+    private static List<Response> lifecycle(Filter cassette, String baseUri, FullUser user){
+        Response signup = given().baseUri(baseUri).filter(cassette).contentType(ContentType.JSON)
+                .body(user).post("/api/signup");
+        Response login = given().baseUri(baseUri).filter(cassette).contentType(ContentType.JSON)
+                .body(new JwtAuthData(user.getLogin(), user.getPass())).post("/api/login");
+        String token = login.jsonPath().getString("token");
+        Response info = given().baseUri(baseUri).filter(cassette).auth().oauth2(token).get("/api/user");
+        Response delete = given().baseUri(baseUri).filter(cassette).auth().oauth2(token).delete("/api/user");
+        Response deletedInfo = given().baseUri(baseUri).filter(cassette).auth().oauth2(token).get("/api/user");
+        return List.of(signup, login, info, delete, deletedInfo);
+    }
+}
@@ -1,27 +1,30 @@
 package tests.swagertests;
 
 import io.qameta.allure.Attachment;
-import io.restassured.RestAssured;
-import io.restassured.filter.log.RequestLoggingFilter;
-import io.restassured.filter.log.ResponseLoggingFilter;
+import listener.CassetteExtension;
+import listener.LogOnFailureExtension;
+import listener.PerformanceReportExtension;
+import listener.ShardCondition;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.parallel.ResourceLock;
 import services.FileService;
-import utils.CustomTpl;
+import utils.FileDigest;
 import static assertions.Conditions.hasMessage;
 import static assertions.Conditions.hasStatusCode;
 import java.io.File;
+import java.io.IOException;
 
 
+@ExtendWith({ShardCondition.class, PerformanceReportExtension.class, LogOnFailureExtension.class, CassetteExtension.class})
 public class FileTests {
+    private static final String LAST_UPLOADED = "lastUploadedFile";
     private static FileService fileService;
 
     @BeforeAll
     public static void setUp(){
-        RestAssured.baseURI = "http://85.192.34.140:8080/";
-           RestAssured.filters(new RequestLoggingFilter(), new ResponseLoggingFilter(),
-                   CustomTpl.customLogFilter().withCustomTemplates());
            fileService = new FileService();
     }
 
@@ -33,7 +36,7 @@ public class FileTests {
     @Test
     public void positiveDownloadTest(){
         byte[] file = fileService.downloadBaseImage()
-                .asResponse().asByteArray();
+                .asByteArray();
         attachFile(file);
         File expectedFile = new File("src/test/resources/testPictures.jpg");
 
@@ -41,16 +44,27 @@ public class FileTests {
     }
 
     @Test
-    public void positiveUploadloadTest(){
+    @ResourceLock(LAST_UPLOADED)
+    public void positiveUploadloadTest() throws IOException {
         File expectedFile = new File("src/test/resources/testPictures.jpg");
         fileService.uploadFile(expectedFile)
                 .should(hasStatusCode(200))
                 .should(hasMessage("file uploaded to server"));
 
-        byte[] actualFile = fileService.downloadLastFile().asResponse().asByteArray();
-        Assertions.assertTrue(actualFile.length != 0);
-        Assertions.assertEquals(expectedFile.length(), actualFile.length);
+        FileDigest actualFile = fileService.downloadLastFileDigest();
+        Assertions.assertTrue(actualFile.getLength() != 0);
+        Assertions.assertEquals(FileDigest.of(expectedFile.toPath()), actualFile);
     }
 
+    @Test
+    @ResourceLock(LAST_UPLOADED)
+    public void positiveStreamingUploadTest() throws IOException {
+        File expectedFile = new File("src/test/resources/testPictures.jpg");
+        fileService.uploadMapped(expectedFile.toPath())
+                .should(hasStatusCode(200))
+                .should(hasMessage("file uploaded to server"));
+
+        Assertions.assertEquals(FileDigest.of(expectedFile.toPath()), fileService.downloadLastFileDigest());
+    }
 
 }
@@ -0,0 +1,55 @@
+package tests.swagertests;
+
+import listener.LogOnFailureExtension;
+import listener.PerformanceReportExtension;
+import listener.ShardCondition;
+import models.swager.FullUser;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import services.RestAssuredTransport;
+import services.Specs;
+import services.UserService;
+import stub.StubApiServer;
+import utils.Resilience;
+import static assertions.Conditions.hasStatusCode;
+import static utils.RandomTestData.getRandomUser;
+
+@ExtendWith({ShardCondition.class, PerformanceReportExtension.class, LogOnFailureExtension.class})
+public class ResilienceTests {
+    private static StubApiServer stub;
+    private static UserService userService;
+
+    @BeforeAll
+    public static void setUp(){
+        stub = StubApiServer.shared();
+        userService = new UserService(new RestAssuredTransport(Specs.api(stub.baseUri()), Specs.raw(stub.baseUri())));
+    }
+
+    @Test
+    public void positiveGetRetriedAfterServiceUnavailableTest(){
+        String token = registeredUserToken();
+        long retriesBefore = Resilience.shared().metrics().get("retries");
+        stub.failNext(token, 503, 1);
+
+        userService.getUserInfo(token).should(hasStatusCode(200));
+
+        Assertions.assertEquals(0, stub.pendingFailures(token));
+        Assertions.assertTrue(Resilience.shared().metrics().get("retries") > retriesBefore);
+    }
+
+    @Test
+    public void negativePutNotRetriedAfterServiceUnavailableTest(){
+        String token = registeredUserToken();
+        stub.failNext(token, 503, 1);
+
+        userService.updatePass("newpassUpdated", token).should(hasStatusCode(503));
+    }
+
+    private static String registeredUserToken(){
+        FullUser user = getRandomUser();
+        userService.register(user).should(hasStatusCode(201));
+        return userService.auth(user).should(hasStatusCode(200)).asJwt();
+    }
+}
@@ -0,0 +1,45 @@
+package tests.swagertests;
+
+import assertions.ResponseView;
+import listener.ShardCondition;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+@ExtendWith(ShardCondition.class)
+public class ResponseViewTests {
+    private static final String USER = "{\"login\":\"demo\",\"games\":["
+            + "{\"title\":\"Doom\",\"tags\":[\"shooter\",\"classic\"]},"
+            + "{\"title\":\"Myst\",\"tags\":[\"quests\"]}]}";
+
+    private static ResponseView view(String json){
+        return ResponseView.of(200, "application/json", 0, json.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void positiveIndexedPathTest(){
+        Assertions.assertEquals("Myst", view(USER).as("games[1].title", String.class));
+    }
+
+    @Test
+    public void positiveProjectionOverArrayTest(){
+        Assertions.assertEquals(List.of("Doom", "Myst"), view(USER).asList("games.title", String.class));
+    }
+
+    @Test
+    public void positiveProjectionKeepsNestedArraysTest(){
+        ResponseView view = view(USER);
+        Assertions.assertEquals(2, view.asList("games.tags", Object.class).size());
+        Assertions.assertEquals("quests", view.as("games.tags[1][0]", String.class));
+    }
+
+    @Test
+    public void negativeUnsupportedPathTest(){
+        ResponseView view = view(USER);
+        Assertions.assertThrows(IllegalArgumentException.class, () -> view.asList("games.findAll { it.title }", String.class));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> view.as("games.size()", Integer.class));
+    }
+}
@@ -0,0 +1,54 @@
+package tests.swagertests;
+
+import assertions.ResponseView;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import listener.ShardCondition;
+import models.swager.FullUser;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import utils.Json;
+
+import java.nio.charset.StandardCharsets;
+
+import static assertions.Conditions.matchesSchema;
+import static assertions.Conditions.matchesStrictSchema;
+import static utils.RandomTestData.getRandomUserWithGames;
+
+@ExtendWith(ShardCondition.class)
+public class SchemaTests {
+
+    private static ResponseView view(String json){
+        return ResponseView.of(200, "application/json", 0, json.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void positiveUserMatchesSchemaTest(){
+        matchesSchema(FullUser.class).check(view("{\"login\":\"demo\",\"pass\":\"demo\",\"games\":[]}"));
+    }
+
+    @Test
+    public void positiveUserWithGamesMatchesSchemaTest() throws JsonProcessingException {
+        FullUser user = getRandomUserWithGames();
+        ResponseView response = ResponseView.of(200, "application/json", 0, Json.mapper().writeValueAsBytes(user));
+        matchesSchema(FullUser.class).check(response);
+    }
+
+    @Test
+    public void negativeUserWithoutPassTest(){
+        ResponseView response = view("{\"login\":\"demo\",\"games\":[]}");
+        Assertions.assertThrows(AssertionError.class, () -> matchesSchema(FullUser.class).check(response));
+    }
+
+    @Test
+    public void negativeGameWithoutTitleTest(){
+        ResponseView response = view("{\"login\":\"demo\",\"pass\":\"demo\",\"games\":[{\"gameId\":1}]}");
+        Assertions.assertThrows(AssertionError.class, () -> matchesSchema(FullUser.class).check(response));
+    }
+
+    @Test
+    public void negativeStrictUserWithUnknownFieldTest(){
+        ResponseView response = view("{\"login\":\"demo\",\"pass\":\"demo\",\"games\":[],\"role\":\"admin\"}");
+        Assertions.assertThrows(AssertionError.class, () -> matchesStrictSchema(FullUser.class).check(response));
+    }
+}
@@ -1,24 +1,40 @@
 package tests.swagertests;
 
-import io.restassured.RestAssured;
-import io.restassured.filter.log.RequestLoggingFilter;
-import io.restassured.filter.log.ResponseLoggingFilter;
+import assertions.AssertableResponse;
+import listener.AdminSession;
 import listener.AdminUser;
 import listener.AdminUserResolver;
+import listener.CassetteExtension;
+import listener.CreatedUsersCleanup;
+import listener.LogOnFailureExtension;
+import listener.PerformanceReportExtension;
+import listener.PooledUser;
+import listener.ShardCondition;
+import listener.UserPoolResolver;
 import models.swager.FullUser;
+import models.swager.Info;
 import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Assumptions;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import services.Async;
+import services.AsyncUserService;
+import services.JdkHttpTransport;
 import services.UserService;
-import utils.CustomTpl;
+import utils.CassetteFilter;
+import java.time.Duration;
 import java.util.List;
+import java.util.stream.Stream;
 import static assertions.Conditions.hasMessage;
 import static assertions.Conditions.hasStatusCode;
+import static assertions.Conditions.matchesSchema;
+import static assertions.Conditions.percentileWithin;
+import static assertions.Conditions.respondsWithin;
 import static utils.RandomTestData.*;
 
-@ExtendWith({AdminUserResolver.class})
+@ExtendWith({ShardCondition.class, PerformanceReportExtension.class, CreatedUsersCleanup.class, AdminUserResolver.class, UserPoolResolver.class, LogOnFailureExtension.class, CassetteExtension.class})
 public class UserRefactorTests {
     private static UserService userService;
     private FullUser user;
@@ -30,9 +46,6 @@ public class UserRefactorTests {
 
     @BeforeAll
     public static void setUp(){
-        RestAssured.baseURI = "http://85.192.34.140:8080/";
-        RestAssured.filters(new RequestLoggingFilter(), new ResponseLoggingFilter(),
-                CustomTpl.customLogFilter().withCustomTemplates());
         userService = new UserService();
     }
 
@@ -40,6 +53,7 @@ public class UserRefactorTests {
     public void positiveRegisterTest(){
         userService.register(user)
                 .should(hasStatusCode(201))
+                .should(matchesSchema("info", Info.class))
                 .should(hasMessage("User created"));
     }
 
@@ -53,9 +67,8 @@ public class UserRefactorTests {
 
 
     @Test
-    public void negativRegisterLoginExistsTest(){
-        userService.register(user);
-        userService.register(user)
+    public void negativRegisterLoginExistsTest(@PooledUser FullUser pooledUser){
+        userService.register(pooledUser)
                 .should(hasStatusCode(400))
                 .should(hasMessage("Login already exist"));
     }
@@ -93,10 +106,19 @@ public class UserRefactorTests {
     }
 
     @Test
-    public void positiveGetUserInfoTest(@AdminUser FullUser admin){
-        String token = userService.auth(admin).asJwt();
-        userService.getUserInfo(token)
-                .should(hasStatusCode(200));
+    public void positiveGetUserInfoTest(AdminSession admin){
+        admin.call(userService::getUserInfo)
+                .should(hasStatusCode(200))
+                .should(matchesSchema(FullUser.class));
+    }
+
+    @Test
+    public void positiveGetPooledUserInfoTest(@PooledUser FullUser pooledUser){
+        FullUser info = userService.getUserInfo(userService.token(pooledUser))
+                .should(hasStatusCode(200))
+                .as(FullUser.class);
+
+        Assertions.assertEquals(pooledUser.getLogin(), info.getLogin());
     }
 
     @Test
@@ -110,11 +132,10 @@ public class UserRefactorTests {
     }
 
     @Test
-    public void positiveChangePassTest(){
-        String oldPassword = user.getPass();
-        userService.register(user);
+    public void positiveChangePassTest(@PooledUser FullUser pooledUser){
+        String oldPassword = pooledUser.getPass();
 
-        String token = userService.auth(user).asJwt();
+        String token = userService.token(pooledUser);
 
         String updatedPassValue = "newpassUpdated";
 
@@ -122,9 +143,9 @@ public class UserRefactorTests {
                 .should(hasStatusCode(200))
                 .should(hasMessage("User password successfully changed"));
 
-        user.setPass(updatedPassValue);
+        pooledUser.setPass(updatedPassValue);
 
-        token = userService.auth(user).should(hasStatusCode(200)).asJwt();
+        token = userService.auth(pooledUser).should(hasStatusCode(200)).asJwt();
 
         FullUser updatedUser = userService.getUserInfo(token).as(FullUser.class);
 
@@ -132,27 +153,22 @@ public class UserRefactorTests {
     }
 
     @Test
-    public void negativeChangeAdminPasswordTest(@AdminUser FullUser admin){
-        String token = userService.auth(admin).asJwt();
-
+    public void negativeChangeAdminPasswordTest(AdminSession admin){
         String updatedPassValue = "newpassUpdated";
-        userService.updatePass(updatedPassValue, token)
+        admin.call(token -> userService.updatePass(updatedPassValue, token))
                 .should(hasStatusCode(400))
                 .should(hasMessage("Cant update base users"));
     }
 
     @Test
-    public void negativeDeletedAdminTest(@AdminUser FullUser admin){
-        String token = userService.auth(admin).asJwt();
-
-        userService.deleteUser(token).should(hasStatusCode(400))
+    public void negativeDeletedAdminTest(AdminSession admin){
+        admin.call(userService::deleteUser).should(hasStatusCode(400))
                 .should(hasMessage("Cant delete base users"));
     }
 
     @Test
-    public void positiveDeletedUserTest(){
-        userService.register(user);
-        String token = userService.auth(user).asJwt();
+    public void positiveDeletedUserTest(@PooledUser FullUser pooledUser){
+        String token = userService.token(pooledUser);
 
         userService.deleteUser(token).should(hasStatusCode(200))
                 .should(hasMessage("User successfully deleted"));
@@ -160,8 +176,60 @@ public class UserRefactorTests {
 
     @Test
     public void positiveGetAllUsersTest(){
-        List<String> users = userService.getAllUsers().asList(String.class);
+        List<String> users = userService.getAllUsers()
+                .should(matchesSchema(String[].class))
+                .asList(String.class);
         Assertions.assertTrue(users.size()>=3);
     }
 
+    @Test
+    public void positiveStreamAllUsersTest(){
+        Assertions.assertTrue(userService.countUsers() >= 3);
+        try (Stream<String> users = userService.streamAllUsers()) {
+            Assertions.assertTrue(users.anyMatch("admin"::equals));
+        }
+    }
+
+    @Test
+    public void positiveRegisterUsersConcurrentlyTest(){
+        AsyncUserService asyncUserService = new AsyncUserService();
+        List<AssertableResponse> responses = Async.joinAll(
+                Async.fanOut(5, i -> asyncUserService.register(getRandomUser())));
+
+        responses.forEach(response -> response
+                .should(hasStatusCode(201))
+                .should(hasMessage("User created")));
+    }
+
+    @Test
+    public void positiveGetAllUsersLatencyTest(){
+        AssertableResponse response = null;
+        for (int i = 0; i < 10; i++) {
+            response = userService.getAllUsers()
+                    .should(hasStatusCode(200))
+                    .should(respondsWithin(Duration.ofSeconds(5)));
+        }
+        response.should(percentileWithin(95, Duration.ofSeconds(3)));
+    }
+
+    @Test
+    public void positiveUserLifecycleOnJdkTransportTest(){
+        Assumptions.assumeFalse(CassetteFilter.enabled(), "the JDK transport does not record or replay cassettes");
+        UserService jdkUserService = new UserService(JdkHttpTransport.shared());
+        jdkUserService.register(user)
+                .should(hasStatusCode(201))
+                .should(hasMessage("User created"));
+
+        String token = jdkUserService.auth(user).should(hasStatusCode(200)).asJwt();
+        FullUser info = jdkUserService.getUserInfo(token)
+                .should(hasStatusCode(200))
+                .should(matchesSchema(FullUser.class))
+                .as(FullUser.class);
+        Assertions.assertEquals(user.getLogin(), info.getLogin());
+
+        jdkUserService.deleteUser(token)
+                .should(hasStatusCode(200))
+                .should(hasMessage("User successfully deleted"));
+    }
+
 }
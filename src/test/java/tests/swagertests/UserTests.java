@@ -1,46 +1,48 @@
 package tests.swagertests;
 
-import io.restassured.RestAssured;
 import io.restassured.common.mapper.TypeRef;
-import io.restassured.filter.log.RequestLoggingFilter;
-import io.restassured.filter.log.ResponseLoggingFilter;
 import io.restassured.http.ContentType;
+import io.restassured.specification.RequestSpecification;
+import listener.CassetteExtension;
+import listener.CreatedUsersCleanup;
+import listener.LogOnFailureExtension;
+import listener.PerformanceReportExtension;
+import listener.ShardCondition;
 import models.swager.FullUser;
 import models.swager.Info;
 import models.swager.JwtAuthData;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
-import utils.CustomTpl;
+import org.junit.jupiter.api.extension.ExtendWith;
+import services.Specs;
+import utils.UniqueIds;
 
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Random;
 
 import static io.restassured.RestAssured.given;
 
 
+@ExtendWith({ShardCondition.class, PerformanceReportExtension.class, CreatedUsersCleanup.class, LogOnFailureExtension.class, CassetteExtension.class})
 public class UserTests {
 
-    private static Random random;
+    private static RequestSpecification spec;
     @BeforeAll
     public static void setUp(){
-        RestAssured.baseURI = "http://85.192.34.140:8080/";
-        RestAssured.filters(new RequestLoggingFilter(), new ResponseLoggingFilter(),
-                CustomTpl.customLogFilter().withCustomTemplates());
-        random = new Random();
+        spec = Specs.api();
     }
 
     @Test
     public void positiveRegisterTest(){
-        int randomNumber = Math.abs(random.nextInt());
+        String userId = UniqueIds.next();
         FullUser user = FullUser.builder()
-                .login("testUserLogin" + randomNumber)
+                .login("testUserLogin" + userId)
                 .pass("testpass")
                 .build();
 
-        Info info = given().contentType(ContentType.JSON)
+        Info info = given(spec).contentType(ContentType.JSON)
                 .body(user)
                 .post("/api/signup")
                 .then()
@@ -51,13 +53,13 @@ public class UserTests {
 
     @Test
     public void negativRegisterLoginExistsTest(){
-        int randomNumber = Math.abs(random.nextInt());
+        String userId = UniqueIds.next();
         FullUser user = FullUser.builder()
-                .login("testUserLogin" + randomNumber)
+                .login("testUserLogin" + userId)
                 .pass("testpass")
                 .build();
 
-        Info info = given().contentType(ContentType.JSON)
+        Info info = given(spec).contentType(ContentType.JSON)
                 .body(user)
                 .post("/api/signup")
                 .then()
@@ -65,7 +67,7 @@ public class UserTests {
                 .extract().jsonPath().getObject("info", Info.class);
         Assertions.assertEquals("User created", info.getMessage());
 
-        Info erroeInfo = given().contentType(ContentType.JSON)
+        Info erroeInfo = given(spec).contentType(ContentType.JSON)
                 .body(user)
                 .post("/api/signup")
                 .then()
@@ -76,12 +78,12 @@ public class UserTests {
 
     @Test
     public void negativRegisterNoPasswordTest(){
-        int randomNumber = Math.abs(random.nextInt());
+        String userId = UniqueIds.next();
         FullUser user = FullUser.builder()
-                .login("testUserLogin" + randomNumber)
+                .login("testUserLogin" + userId)
                 .build();
 
-        Info info = given().contentType(ContentType.JSON)
+        Info info = given(spec).contentType(ContentType.JSON)
                 .body(user)
                 .post("/api/signup")
                 .then()
@@ -94,7 +96,7 @@ public class UserTests {
     public void positiveAuthTest(){
         JwtAuthData authData = new JwtAuthData("admin","admin");
 
-        String token = given().contentType(ContentType.JSON)
+        String token = given(spec).contentType(ContentType.JSON)
                 .body(authData)
                 .post("/api/login")
                 .then()
@@ -106,13 +108,13 @@ public class UserTests {
 
     @Test
     public void positiveNewUserAuthTest(){
-        int randomNumber = Math.abs(random.nextInt());
+        String userId = UniqueIds.next();
         FullUser user = FullUser.builder()
-                .login("testUserLogin" + randomNumber)
+                .login("testUserLogin" + userId)
                 .pass("testpass")
                 .build();
 
-        Info info = given().contentType(ContentType.JSON)
+        Info info = given(spec).contentType(ContentType.JSON)
                 .body(user)
                 .post("/api/signup")
                 .then()
@@ -122,7 +124,7 @@ public class UserTests {
 
         JwtAuthData authData = new JwtAuthData(user.getLogin(),user.getPass());
 
-        String token = given().contentType(ContentType.JSON)
+        String token = given(spec).contentType(ContentType.JSON)
                 .body(authData)
                 .post("/api/login")
                 .then()
@@ -136,7 +138,7 @@ public class UserTests {
     public void negativeAuthTest(){
         JwtAuthData authData = new JwtAuthData("asdad","asdasd");
 
-        given().contentType(ContentType.JSON)
+        given(spec).contentType(ContentType.JSON)
                 .body(authData)
                 .post("/api/login")
                 .then()
@@ -147,7 +149,7 @@ public class UserTests {
     public void positiveGetUserInfoTest(){
         JwtAuthData authData = new JwtAuthData("admin","admin");
 
-        String token = given().contentType(ContentType.JSON)
+        String token = given(spec).contentType(ContentType.JSON)
                 .body(authData)
                 .post("/api/login")
                 .then()
@@ -156,33 +158,33 @@ public class UserTests {
 
         Assertions.assertNotNull(token);
 
-        given().auth().oauth2(token).get("/api/user")
+        given(spec).auth().oauth2(token).get("/api/user")
                 .then().statusCode(200);
     }
 
     @Test
     public void positiveGetUserInfoInvalidJWTTest(){
-        given().auth().oauth2("some values")
+        given(spec).auth().oauth2("some values")
                 .get("/api/user")
                 .then().statusCode(401);
     }
 
     @Test
     public void negativeGetUserInfoWithoutJWTTest(){
-        given()
+        given(spec)
                 .get("/api/user")
                 .then().statusCode(401);
     }
 
     @Test
     public void positiveChangePass(){
-        int randomNumber = Math.abs(random.nextInt());
+        String userId = UniqueIds.next();
         FullUser user = FullUser.builder()
-                .login("testUserLogin" + randomNumber)
+                .login("testUserLogin" + userId)
                 .pass("testpass")
                 .build();
 
-        Info info = given().contentType(ContentType.JSON)
+        Info info = given(spec).contentType(ContentType.JSON)
                 .body(user)
                 .post("/api/signup")
                 .then()
@@ -192,7 +194,7 @@ public class UserTests {
 
         JwtAuthData authData = new JwtAuthData(user.getLogin(),user.getPass());
 
-        String token = given().contentType(ContentType.JSON)
+        String token = given(spec).contentType(ContentType.JSON)
                 .body(authData)
                 .post("/api/login")
                 .then()
@@ -204,7 +206,7 @@ public class UserTests {
         newPassword.put("password", updatedPassValue);
 
 
-        Info updatePassInfo = given().contentType(ContentType.JSON)
+        Info updatePassInfo = given(spec).contentType(ContentType.JSON)
                 .auth().oauth2(token)
                 .body(newPassword)
                 .put("/api/user")
@@ -212,14 +214,14 @@ public class UserTests {
         Assertions.assertEquals("User password successfully changed", updatePassInfo.getMessage());
 
         authData.setPassword(updatedPassValue);
-        token = given().contentType(ContentType.JSON)
+        token = given(spec).contentType(ContentType.JSON)
                 .body(authData)
                 .post("/api/login")
                 .then()
                 .statusCode(200)
                 .extract().jsonPath().getString("token");
 
-        FullUser updatedUser = given().auth().oauth2(token).get("/api/user")
+        FullUser updatedUser = given(spec).auth().oauth2(token).get("/api/user")
                 .then().statusCode(200)
                 .extract().as(FullUser.class);
         Assertions.assertNotEquals(user.getPass(),updatedUser.getPass());
@@ -229,7 +231,7 @@ public class UserTests {
     public void negativeChangeAdminPasswordTest(){
         JwtAuthData authData = new JwtAuthData("admin","admin");
 
-        String token = given().contentType(ContentType.JSON)
+        String token = given(spec).contentType(ContentType.JSON)
                 .body(authData)
                 .post("/api/login")
                 .then()
@@ -241,7 +243,7 @@ public class UserTests {
         newPassword.put("password", updatedPassValue);
 
 
-        Info updatePassInfo = given().contentType(ContentType.JSON)
+        Info updatePassInfo = given(spec).contentType(ContentType.JSON)
                 .auth().oauth2(token)
                 .body(newPassword)
                 .put("/api/user")
@@ -254,14 +256,14 @@ public class UserTests {
     public void negativeDeletedAdminTest(){
         JwtAuthData authData = new JwtAuthData("admin","admin");
 
-        String token = given().contentType(ContentType.JSON)
+        String token = given(spec).contentType(ContentType.JSON)
                 .body(authData)
                 .post("/api/login")
                 .then()
                 .statusCode(200)
                 .extract().jsonPath().getString("token");
 
-        Info info = given().auth().oauth2(token)
+        Info info = given(spec).auth().oauth2(token)
                 .delete("/api/user")
                 .then().statusCode(400)
                 .extract().jsonPath().getObject("info", Info.class);
@@ -270,13 +272,13 @@ public class UserTests {
 
     @Test
     public void deletedUserTest(){
-        int randomNumber = Math.abs(random.nextInt());
+        String userId = UniqueIds.next();
         FullUser user = FullUser.builder()
-                .login("testUserLogin" + randomNumber)
+                .login("testUserLogin" + userId)
                 .pass("testpass")
                 .build();
 
-        Info info = given().contentType(ContentType.JSON)
+        Info info = given(spec).contentType(ContentType.JSON)
                 .body(user)
                 .post("/api/signup")
                 .then()
@@ -286,14 +288,14 @@ public class UserTests {
 
         JwtAuthData authData = new JwtAuthData(user.getLogin(),user.getPass());
 
-        String token = given().contentType(ContentType.JSON)
+        String token = given(spec).contentType(ContentType.JSON)
                 .body(authData)
                 .post("/api/login")
                 .then()
                 .statusCode(200)
                 .extract().jsonPath().getString("token");
 
-        Info infoDeleted = given().auth().oauth2(token)
+        Info infoDeleted = given(spec).auth().oauth2(token)
                 .delete("/api/user")
                 .then().statusCode(200)
                 .extract().jsonPath().getObject("info", Info.class);
@@ -302,7 +304,7 @@ public class UserTests {
 
     @Test
     public void positiveGetAllUsersTest(){
-        List<String> users = given().get("/api/users")
+        List<String> users = given(spec).get("/api/users")
                 .then().statusCode(200)
                 .extract().as(new TypeRef<List<String>>() {});
         Assertions.assertTrue(users.size()>=3);
@@ -0,0 +1,125 @@
+package utils;
+
+import freemarker.template.Template;
+import io.qameta.allure.Allure;
+import io.qameta.allure.AllureLifecycle;
+import io.restassured.filter.FilterContext;
+import io.restassured.filter.OrderedFilter;
+import io.restassured.http.Cookie;
+import io.restassured.http.Header;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Attaches the request (with curl) and response of each call to Allure, once per call rather
+ * than per retry. Large bodies are truncated and successes sampled by {@code allure.attach.sample}.
+ */
+public class AllureAttachmentFilter implements OrderedFilter {
+    private static final int MAX_BODY = Integer.getInteger("allure.attach.maxBody", 64 * 1024);
+    private static final double SAMPLE = Double.parseDouble(System.getProperty("allure.attach.sample", "1.0"));
+
+    private final Template requestTemplate;
+    private final Template responseTemplate;
+    private final AttachmentWriter writer = new AttachmentWriter();
+
+    public AllureAttachmentFilter(Template requestTemplate, Template responseTemplate) {
+        this.requestTemplate = requestTemplate;
+        this.responseTemplate = responseTemplate;
+    }
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec,
+                           FilterableResponseSpecification responseSpec,
+                           FilterContext ctx) {
+        Response response = ctx.next(requestSpec, responseSpec);
+        AllureLifecycle lifecycle = Allure.getLifecycle();
+        if (lifecycle.getCurrentTestCaseOrStep().isEmpty() || Resilience.retryPlanned(response.statusCode())
+                || !sampled(response)) {
+            return response;
+        }
+        String requestSource = lifecycle.prepareAttachment("Request", "text/html", ".html");
+        writer.submit(lifecycle, requestSource, requestTemplate, requestModel(requestSpec));
+        String responseSource = lifecycle.prepareAttachment(response.getStatusLine(), "text/html", ".html");
+        writer.submit(lifecycle, responseSource, responseTemplate, responseModel(requestSpec, response));
+        return response;
+    }
+
+    @Override
+    public int getOrder() {
+        return Integer.MAX_VALUE;
+    }
+
+    private static boolean sampled(Response response) {
+        return response.statusCode() >= 400 || SAMPLE >= 1.0 || ThreadLocalRandom.current().nextDouble() < SAMPLE;
+    }
+
+    private static Map<String, Object> requestModel(FilterableRequestSpecification request) {
+        Map<String, Object> model = new LinkedHashMap<>();
+        model.put("method", request.getMethod());
+        model.put("url", request.getURI());
+        Object body = request.getBody();
+        if (body != null) {
+            model.put("body", body instanceof byte[] ? "<binary " + ((byte[]) body).length + " bytes>" : truncate(String.valueOf(body)));
+        }
+        model.put("headers", headers(request.getHeaders()));
+        model.put("cookies", cookies(request.getCookies()));
+        model.put("curl", curl(request));
+        return model;
+    }
+
+    private static String curl(FilterableRequestSpecification request) {
+        StringBuilder curl = new StringBuilder("curl -v -X ").append(request.getMethod())
+                .append(" '").append(request.getURI()).append('\'');
+        request.getHeaders().forEach(header -> curl.append(" -H '").append(header.getName()).append(": ")
+                .append(escape(header.getValue())).append('\''));
+        request.getCookies().forEach(cookie -> curl.append(" -b '").append(cookie.getName()).append('=')
+                .append(escape(String.valueOf(cookie.getValue()))).append('\''));
+        request.getMultiPartParams().forEach(part -> curl.append(" -F '").append(part.getControlName()).append("=@")
+                .append(part.getFileName()).append('\''));
+        Object body = request.getBody();
+        if (body != null && !(body instanceof byte[])) {
+            curl.append(" -d '").append(escape(truncate(String.valueOf(body)))).append('\'');
+        }
+        return curl.toString();
+    }
+
+    private static String escape(String value) {
+        return value.replace("'", "'\\''");
+    }
+
+    private static Map<String, Object> responseModel(FilterableRequestSpecification request, Response response) {
+        Map<String, Object> model = new LinkedHashMap<>();
+        model.put("responseCode", response.statusCode());
+        model.put("url", request.getURI());
+        model.put("headers", headers(response.getHeaders()));
+        String contentType = response.getContentType();
+        if (contentType != null && (contentType.contains("json") || contentType.startsWith("text"))) {
+            model.put("body", truncate(response.asString()));
+        } else {
+            model.put("body", "<binary " + response.asByteArray().length + " bytes, " + contentType + ">");
+        }
+        model.put("cookies", cookies(response.getDetailedCookies()));
+        return model;
+    }
+
+    private static Map<String, String> headers(Iterable<Header> headers) {
+        Map<String, String> result = new LinkedHashMap<>();
+        headers.forEach(header -> result.merge(header.getName(), header.getValue(), (a, b) -> a + "; " + b));
+        return result;
+    }
+
+    private static Map<String, String> cookies(Iterable<Cookie> cookies) {
+        Map<String, String> result = new LinkedHashMap<>();
+        cookies.forEach(cookie -> result.put(cookie.getName(), String.valueOf(cookie.getValue())));
+        return result;
+    }
+
+    private static String truncate(String body) {
+        return body.length() <= MAX_BODY ? body : body.substring(0, MAX_BODY) + "\n... <truncated, " + body.length() + " chars>";
+    }
+}
@@ -0,0 +1,23 @@
+package utils;
+
+import stub.StubApiServer;
+
+public class ApiConfig {
+    public static final String EMBEDDED = "embedded";
+    private static final String DEFAULT_BASE_URI = "http://85.192.34.140:8080/";
+
+    private ApiConfig() {
+    }
+
+    /**
+     * Base URI from the {@code api.baseUri} system property. The value {@code embedded}
+     * points the suite at the in-process {@link StubApiServer}.
+     */
+    public static String baseUri() {
+        String configured = System.getProperty("api.baseUri", DEFAULT_BASE_URI);
+        if (EMBEDDED.equalsIgnoreCase(configured)) {
+            return StubApiServer.shared().baseUri();
+        }
+        return configured;
+    }
+}
@@ -0,0 +1,64 @@
+package utils;
+
+import freemarker.template.Template;
+import io.qameta.allure.AllureLifecycle;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Renders and writes Allure attachments off the request thread. The queue is bounded; when
+ * it is full the calling thread renders the attachment itself.
+ */
+public class AttachmentWriter {
+    private static final int THREADS = Integer.getInteger("allure.attach.threads", 2);
+    private static final int QUEUE = Integer.getInteger("allure.attach.queue", 256);
+
+    private final ThreadPoolExecutor executor;
+
+    public AttachmentWriter() {
+        AtomicInteger counter = new AtomicInteger();
+        executor = new ThreadPoolExecutor(THREADS, THREADS, 30, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(QUEUE),
+                r -> {
+                    Thread thread = new Thread(r, "allure-attachments-" + counter.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.allowCoreThreadTimeOut(true);
+        Runtime.getRuntime().addShutdownHook(new Thread(this::drain, "allure-attachments-drain"));
+    }
+
+    public void submit(AllureLifecycle lifecycle, String source, Template template, Map<String, Object> model) {
+        executor.execute(() -> write(lifecycle, source, template, model));
+    }
+
+    public void drain() {
+        executor.shutdown();
+        try {
+            executor.awaitTermination(30, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void write(AllureLifecycle lifecycle, String source, Template template, Map<String, Object> model) {
+        ByteArrayOutputStream html = new ByteArrayOutputStream();
+        try (Writer writer = new OutputStreamWriter(html, StandardCharsets.UTF_8)) {
+            template.process(Map.of("data", model), writer);
+        } catch (Exception e) {
+            html.reset();
+            html.writeBytes(("Could not render attachment: " + e).getBytes(StandardCharsets.UTF_8));
+        }
+        lifecycle.writeAttachment(source, new ByteArrayInputStream(html.toByteArray()));
+    }
+}
@@ -0,0 +1,128 @@
+package utils;
+
+import io.restassured.filter.Filter;
+import io.restassured.filter.FilterContext;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+import io.restassured.specification.MultiPartSpecification;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.stream.Collectors;
+
+/**
+ * Replacement for the request/response logging filters. With {@code api.log=failure}
+ * (the default) exchanges are kept in a bounded per-test buffer and only printed when the
+ * test fails; {@code all} prints every exchange and {@code none} disables logging.
+ */
+public class BufferedLogFilter implements Filter {
+    private static final Mode MODE = Mode.valueOf(System.getProperty("api.log", "failure").toUpperCase());
+    private static final int MAX_BODY = Integer.getInteger("api.log.maxBody", 2048);
+    private static final int CAPACITY = Integer.getInteger("api.log.buffer", 20);
+    private static final ThreadLocal<Buffer> BUFFER = ThreadLocal.withInitial(Buffer::new);
+    private static final BufferedLogFilter INSTANCE = new BufferedLogFilter();
+
+    private BufferedLogFilter() {
+    }
+
+    public static BufferedLogFilter shared() {
+        return INSTANCE;
+    }
+
+    public static void reset() {
+        BUFFER.get().clear();
+    }
+
+    public static void flush(String header) {
+        Buffer buffer = BUFFER.get();
+        if (!buffer.isEmpty()) {
+            System.out.println(buffer.render(header));
+        }
+        buffer.clear();
+    }
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec,
+                           FilterableResponseSpecification responseSpec,
+                           FilterContext ctx) {
+        Response response = ctx.next(requestSpec, responseSpec);
+        if (MODE == Mode.NONE) {
+            return response;
+        }
+        String exchange = describe(requestSpec, response);
+        if (MODE == Mode.ALL) {
+            System.out.println(exchange);
+        } else {
+            BUFFER.get().add(exchange);
+        }
+        return response;
+    }
+
+    private static String describe(FilterableRequestSpecification request, Response response) {
+        StringBuilder text = new StringBuilder()
+                .append("Request: ").append(request.getMethod()).append(' ').append(request.getURI()).append('\n')
+                .append(request.getHeaders()).append('\n');
+        if (!request.getMultiPartParams().isEmpty()) {
+            text.append(request.getMultiPartParams().stream()
+                    .map(BufferedLogFilter::describePart)
+                    .collect(Collectors.joining(", ", "Multipart: ", "\n")));
+        } else if (request.getBody() != null) {
+            Object body = request.getBody();
+            text.append(body instanceof byte[] ? "<" + ((byte[]) body).length + " bytes>" : truncate(String.valueOf(body)))
+                    .append('\n');
+        }
+        text.append("Response: ").append(response.getStatusLine()).append(" (").append(response.getTime()).append(" ms)\n")
+                .append(response.getHeaders()).append('\n');
+        String contentType = response.getContentType();
+        if (contentType != null && (contentType.contains("json") || contentType.startsWith("text"))) {
+            text.append(truncate(response.asString()));
+        } else {
+            text.append("<binary ").append(response.asByteArray().length).append(" bytes>");
+        }
+        return text.toString();
+    }
+
+    private static String describePart(MultiPartSpecification part) {
+        return part.getControlName() + "=" + part.getFileName();
+    }
+
+    private static String truncate(String body) {
+        return body.length() <= MAX_BODY ? body : body.substring(0, MAX_BODY) + "... <" + body.length() + " chars>";
+    }
+
+    private enum Mode {
+        FAILURE, ALL, NONE
+    }
+
+    private static class Buffer {
+        private final Deque<String> exchanges = new ArrayDeque<>(CAPACITY);
+        private int dropped;
+
+        void add(String exchange) {
+            if (exchanges.size() == CAPACITY) {
+                exchanges.removeFirst();
+                dropped++;
+            }
+            exchanges.addLast(exchange);
+        }
+
+        boolean isEmpty() {
+            return exchanges.isEmpty();
+        }
+
+        void clear() {
+            exchanges.clear();
+            dropped = 0;
+        }
+
+        String render(String header) {
+            StringBuilder text = new StringBuilder("==== ").append(header).append('\n');
+            if (dropped > 0) {
+                text.append("<").append(dropped).append(" earlier exchanges dropped>\n");
+            }
+            exchanges.forEach(exchange -> text.append(exchange).append("\n----\n"));
+            return text.toString();
+        }
+    }
+}
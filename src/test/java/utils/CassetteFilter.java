@@ -0,0 +1,316 @@
+package utils;
+
+import io.restassured.builder.ResponseBuilder;
+import io.restassured.filter.FilterContext;
+import io.restassured.filter.OrderedFilter;
+import io.restassured.http.Header;
+import io.restassured.http.Headers;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+import lombok.RequiredArgsConstructor;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Records exchanges per fork into {@code api.cassette.dir}, or replays them from there, keyed
+ * by test scope, method, path and call number rather than by the generated request bodies.
+ */
+public class CassetteFilter implements OrderedFilter {
+    private static final int MAGIC = 0x43415353;
+    private static final int VERSION = 3;
+    private static final String SUFFIX = ".cassette";
+    private static final ThreadLocal<Scope> SCOPE = new ThreadLocal<>();
+    private static final Scope UNSCOPED = new Scope("-");
+
+    private final Mode mode;
+    private final Path dir;
+    private FileChannel recording;
+    private volatile Index index;
+
+    public CassetteFilter(Mode mode, Path dir) {
+        this.mode = mode;
+        this.dir = dir;
+    }
+
+    public static CassetteFilter shared() {
+        return Holder.INSTANCE;
+    }
+
+    public static boolean enabled() {
+        return shared().mode != Mode.OFF;
+    }
+
+    /**
+     * Makes {@code id} the scope of the exchanges this thread records or replays, and returns
+     * the previous scope for {@link #restore(Scope)}.
+     */
+    public static Scope open(String id) {
+        Scope previous = SCOPE.get();
+        SCOPE.set(new Scope(id));
+        return previous;
+    }
+
+    public static void restore(Scope previous) {
+        if (previous == null) {
+            SCOPE.remove();
+        } else {
+            SCOPE.set(previous);
+        }
+    }
+
+    public static <T> T inScope(String id, Supplier<T> task) {
+        Scope previous = open(id);
+        try {
+            return task.get();
+        } finally {
+            restore(previous);
+        }
+    }
+
+    /**
+     * Wraps a task so that it keeps the caller's scope when it runs on another thread.
+     */
+    public static <T> Supplier<T> inScope(Supplier<T> task) {
+        Scope scope = SCOPE.get();
+        if (scope == null) {
+            return task;
+        }
+        return () -> {
+            Scope previous = SCOPE.get();
+            SCOPE.set(scope);
+            try {
+                return task.get();
+            } finally {
+                restore(previous);
+            }
+        };
+    }
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec,
+                           FilterableResponseSpecification responseSpec,
+                           FilterContext ctx) {
+        if (mode == Mode.OFF) {
+            return ctx.next(requestSpec, responseSpec);
+        }
+        String request = request(requestSpec);
+        Scope scope = SCOPE.get();
+        String key = (scope == null ? UNSCOPED : scope).key(request);
+        if (mode == Mode.REPLAY) {
+            return index().replay(key);
+        }
+        Response response = ctx.next(requestSpec, responseSpec);
+        append(key, response);
+        return response;
+    }
+
+    /**
+     * Runs after every other filter, so logging, latency and Allure filters see replayed
+     * responses exactly as they would see live ones.
+     */
+    @Override
+    public int getOrder() {
+        return Integer.MAX_VALUE;
+    }
+
+    public synchronized void close() {
+        if (recording == null) {
+            return;
+        }
+        try {
+            recording.close();
+        } catch (IOException ignored) {
+            // nothing more will be recorded
+        }
+        recording = null;
+    }
+
+    private synchronized void append(String key, Response response) {
+        try {
+            if (recording == null) {
+                Files.createDirectories(dir);
+                String fork = System.getProperty("org.gradle.test.worker", String.valueOf(ProcessHandle.current().pid()));
+                recording = FileChannel.open(dir.resolve("fork-" + fork + SUFFIX), StandardOpenOption.CREATE,
+                        StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+                recording.write(ByteBuffer.allocate(8).putInt(MAGIC).putInt(VERSION).flip());
+                Runtime.getRuntime().addShutdownHook(new Thread(this::close, "cassette-close"));
+            }
+            ByteArrayOutputStream entry = new ByteArrayOutputStream();
+            DataOutputStream out = new DataOutputStream(entry);
+            writeString(out, key);
+            out.writeInt(response.statusCode());
+            writeString(out, response.getStatusLine());
+            out.writeInt(response.getHeaders().size());
+            for (Header header : response.getHeaders()) {
+                writeString(out, header.getName());
+                writeString(out, header.getValue());
+            }
+            byte[] body = response.asByteArray();
+            out.writeInt(body.length);
+            out.write(body);
+            ByteBuffer buffer = ByteBuffer.allocate(4 + entry.size()).putInt(entry.size()).put(entry.toByteArray()).flip();
+            while (buffer.hasRemaining()) {
+                recording.write(buffer);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private Index index() {
+        Index current = index;
+        if (current == null) {
+            synchronized (this) {
+                if (index == null) {
+                    index = new Index(dir);
+                }
+                current = index;
+            }
+        }
+        return current;
+    }
+
+    private static String request(FilterableRequestSpecification request) {
+        URI uri = URI.create(request.getURI());
+        String path = uri.getRawQuery() == null ? uri.getRawPath() : uri.getRawPath() + "?" + uri.getRawQuery();
+        return request.getMethod() + " " + path;
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = (value == null ? "" : value).getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(ByteBuffer buffer) {
+        byte[] bytes = new byte[buffer.getInt()];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    public enum Mode {
+        OFF, RECORD, REPLAY
+    }
+
+    /**
+     * Exchanges of one test, numbered per request so repeated calls replay in order. A call
+     * past the recorded ones fails instead of reusing another response.
+     */
+    public static final class Scope {
+        private final String id;
+        private final Map<String, AtomicInteger> counts = new ConcurrentHashMap<>();
+
+        private Scope(String id) {
+            this.id = id;
+        }
+
+        private String key(String request) {
+            return id + "#" + counts.computeIfAbsent(request, r -> new AtomicInteger()).incrementAndGet() + " " + request;
+        }
+    }
+
+    private static class Holder {
+        private static final CassetteFilter INSTANCE = new CassetteFilter(
+                Mode.valueOf(System.getProperty("api.cassette.mode", "off").toUpperCase()),
+                Path.of(System.getProperty("api.cassette.dir", "build/cassettes")));
+    }
+
+    private static class Index {
+        private final Path dir;
+        private final Map<String, Recorded> byKey = new HashMap<>();
+
+        Index(Path dir) {
+            this.dir = dir;
+            List<Path> cassettes;
+            try (Stream<Path> files = Files.list(dir)) {
+                cassettes = files.filter(file -> file.toString().endsWith(SUFFIX)).sorted().collect(Collectors.toList());
+            } catch (IOException e) {
+                cassettes = List.of();
+            }
+            if (cassettes.isEmpty()) {
+                throw new IllegalStateException("No cassettes in " + dir.toAbsolutePath() + ", record them with api.cassette.mode=record");
+            }
+            cassettes.forEach(this::load);
+        }
+
+        private void load(Path path) {
+            ByteBuffer buffer;
+            try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+                buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            if (buffer.remaining() < 8 || buffer.getInt() != MAGIC || buffer.getInt() != VERSION) {
+                throw new IllegalStateException("Not a cassette: " + path.toAbsolutePath());
+            }
+            while (buffer.hasRemaining()) {
+                int length = buffer.getInt();
+                int next = buffer.position() + length;
+                String key = readString(buffer);
+                int statusCode = buffer.getInt();
+                String statusLine = readString(buffer);
+                int headerCount = buffer.getInt();
+                List<Header> headers = new ArrayList<>(headerCount);
+                for (int i = 0; i < headerCount; i++) {
+                    headers.add(new Header(readString(buffer), readString(buffer)));
+                }
+                int bodyLength = buffer.getInt();
+                ByteBuffer body = buffer.slice(buffer.position(), bodyLength);
+                Recorded exchange = new Recorded(statusCode, statusLine, new Headers(headers), body);
+                byKey.put(key, exchange);
+                buffer.position(next);
+            }
+        }
+
+        Response replay(String key) {
+            Recorded recorded = byKey.get(key);
+            if (recorded == null) {
+                throw new IllegalStateException("No recorded interaction for " + key + " in " + dir.toAbsolutePath());
+            }
+            return recorded.toResponse();
+        }
+    }
+
+    @RequiredArgsConstructor
+    private static class Recorded {
+        private final int statusCode;
+        private final String statusLine;
+        private final Headers headers;
+        private final ByteBuffer body;
+
+        Response toResponse() {
+            byte[] bytes = new byte[body.remaining()];
+            body.duplicate().get(bytes);
+            ResponseBuilder builder = new ResponseBuilder()
+                    .setStatusCode(statusCode)
+                    .setStatusLine(statusLine)
+                    .setHeaders(headers)
+                    .setBody(bytes);
+            String contentType = headers.getValue("Content-Type");
+            if (contentType != null) {
+                builder.setContentType(contentType);
+            }
+            return builder.build();
+        }
+    }
+}
@@ -1,19 +1,36 @@
 package utils;
 
-import io.qameta.allure.restassured.AllureRestAssured;
+import freemarker.template.Configuration;
+import freemarker.template.Template;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
 
 public class CustomTpl {
-    private static final AllureRestAssured FILTER = new AllureRestAssured();
+    private final AllureAttachmentFilter filter;
+
     private CustomTpl() {
+        Configuration configuration = new Configuration(Configuration.VERSION_2_3_30);
+        configuration.setClassForTemplateLoading(CustomTpl.class, "/tpl");
+        configuration.setDefaultEncoding("UTF-8");
+        filter = new AllureAttachmentFilter(template(configuration, "request.ftl"),
+                template(configuration, "response.ftl"));
     }
+
     public static CustomTpl customLogFilter() {
         return InitLogFilter.logFilter;
     }
 
-    public AllureRestAssured withCustomTemplates() {
-        FILTER.setRequestTemplate("request.ftl");
-        FILTER.setResponseTemplate("response.ftl");
-        return FILTER;
+    public AllureAttachmentFilter withCustomTemplates() {
+        return filter;
+    }
+
+    private static Template template(Configuration configuration, String name) {
+        try {
+            return configuration.getTemplate(name);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
     }
 
     private static class InitLogFilter {
@@ -0,0 +1,73 @@
+package utils;
+
+import com.github.javafaker.Faker;
+
+import java.util.Random;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+
+/**
+ * Faker values for test data. By default each kind of value is generated once into a pool
+ * of {@code testdata.poolSize} entries on first use and then picked at random, which avoids
+ * Faker's YAML lookups per call. {@code testdata.mode=faker} calls Faker live instead.
+ */
+public class DataPools {
+    private static final boolean LIVE = "faker".equalsIgnoreCase(System.getProperty("testdata.mode"));
+    private static final int POOL_SIZE = Integer.getInteger("testdata.poolSize", 512);
+
+    private DataPools() {
+    }
+
+    public static String funnyName() {
+        return LIVE ? Live.faker.funnyName().name() : pick(Pools.funnyNames);
+    }
+
+    public static String dragonBallCharacter() {
+        return LIVE ? Live.faker.dragonBall().character() : pick(Pools.dragonBallCharacters);
+    }
+
+    public static String genre() {
+        return LIVE ? Live.faker.book().genre() : pick(Pools.genres);
+    }
+
+    public static String company() {
+        return LIVE ? Live.faker.company().name() : pick(Pools.companies);
+    }
+
+    public static String beerName() {
+        return LIVE ? Live.faker.beer().name() : pick(Pools.beerNames);
+    }
+
+    public static String username() {
+        return LIVE ? Live.faker.name().username() : pick(Pools.usernames);
+    }
+
+    public static String password() {
+        return LIVE ? Live.faker.internet().password() : pick(Pools.passwords);
+    }
+
+    private static String pick(String[] pool) {
+        return pool[Randoms.current().nextInt(pool.length)];
+    }
+
+    private static class Live {
+        private static final Faker faker = new Faker();
+    }
+
+    private static class Pools {
+        private static final Faker faker = new Faker(new Random(Randoms.seed()));
+        private static final String[] funnyNames = fill(f -> f.funnyName().name());
+        private static final String[] dragonBallCharacters = fill(f -> f.dragonBall().character());
+        private static final String[] genres = fill(f -> f.book().genre());
+        private static final String[] companies = fill(f -> f.company().name());
+        private static final String[] beerNames = fill(f -> f.beer().name());
+        private static final String[] usernames = fill(f -> f.name().username());
+        private static final String[] passwords = fill(f -> f.internet().password());
+
+        private static String[] fill(Function<Faker, String> generator) {
+            return IntStream.range(0, POOL_SIZE)
+                    .mapToObj(i -> generator.apply(faker))
+                    .toArray(String[]::new);
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package utils;
+
+import lombok.Value;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.zip.CRC32C;
+
+/**
+ * Length, SHA-256 and CRC32C of a byte stream, computed incrementally while it is read.
+ */
+@Value
+public class FileDigest {
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    long length;
+    String sha256;
+    long crc32c;
+
+    public static FileDigest of(Path path) throws IOException {
+        try (InputStream in = new MappedFileInputStream(path)) {
+            return of(in);
+        }
+    }
+
+    public static FileDigest of(InputStream in) throws IOException {
+        return copy(in, OutputStream.nullOutputStream());
+    }
+
+    public static FileDigest copy(InputStream in, OutputStream sink) throws IOException {
+        MessageDigest sha256 = sha256();
+        CRC32C crc32c = new CRC32C();
+        byte[] buffer = new byte[BUFFER_SIZE];
+        long length = 0;
+        int read;
+        while ((read = in.read(buffer)) != -1) {
+            sha256.update(buffer, 0, read);
+            crc32c.update(buffer, 0, read);
+            sink.write(buffer, 0, read);
+            length += read;
+        }
+        return new FileDigest(length, HexFormat.of().formatHex(sha256.digest()), crc32c.getValue());
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package utils;
+
+import com.fasterxml.jackson.databind.MappingIterator;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+public class JsonStreams {
+    private JsonStreams() {
+    }
+
+    /**
+     * Lazily reads the elements of a top-level JSON array. Only the current element is held
+     * in memory; closing the stream closes {@code in}.
+     */
+    public static <T> Stream<T> stream(InputStream in, Class<T> type) {
+        MappingIterator<T> iterator;
+        try {
+            iterator = Json.reader(type).readValues(in);
+        } catch (IOException e) {
+            closeQuietly(in);
+            throw new UncheckedIOException(e);
+        }
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator,
+                        Spliterator.ORDERED | Spliterator.NONNULL), false)
+                .onClose(() -> {
+                    try {
+                        iterator.close();
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+    }
+
+    private static void closeQuietly(InputStream in) {
+        try {
+            in.close();
+        } catch (IOException ignored) {
+            // already failing
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package utils;
+
+import assertions.LatencyRegistry;
+import io.restassured.filter.Filter;
+import io.restassured.filter.FilterContext;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+import io.restassured.specification.MultiPartSpecification;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+public class LatencyFilter implements Filter {
+    private static final LatencyFilter INSTANCE = new LatencyFilter();
+
+    private LatencyFilter() {
+    }
+
+    public static LatencyFilter shared() {
+        return INSTANCE;
+    }
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec,
+                           FilterableResponseSpecification responseSpec,
+                           FilterContext ctx) {
+        long start = System.nanoTime();
+        Response response = ctx.next(requestSpec, responseSpec);
+        long elapsed = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - start);
+        LatencyRegistry.record(new LatencyRegistry.Exchange(requestSpec.getMethod(),
+                endpoint(requestSpec.getUserDefinedPath()), requestSpec.getURI(), response.statusCode(), elapsed,
+                bytesSent(requestSpec), bytesReceived(response), requestSpec.getBody(), response));
+        return response;
+    }
+
+    public static String endpoint(String path) {
+        String endpoint = path.replaceAll("/+", "/");
+        return endpoint.startsWith("/") ? endpoint.substring(1) : endpoint;
+    }
+
+    private static long bytesSent(FilterableRequestSpecification request) {
+        long total = size(request.getBody());
+        for (MultiPartSpecification part : request.getMultiPartParams()) {
+            total += size(part.getContent());
+        }
+        return total;
+    }
+
+    private static long bytesReceived(Response response) {
+        String contentLength = response.getHeader("Content-Length");
+        if (contentLength != null) {
+            try {
+                return Long.parseLong(contentLength.trim());
+            } catch (NumberFormatException ignored) {
+                // fall through to the buffered body
+            }
+        }
+        return response.asByteArray().length;
+    }
+
+    private static long size(Object content) {
+        if (content instanceof byte[]) {
+            return ((byte[]) content).length;
+        }
+        if (content instanceof File) {
+            return ((File) content).length();
+        }
+        if (content instanceof String) {
+            return ((String) content).getBytes(StandardCharsets.UTF_8).length;
+        }
+        return 0;
+    }
+}
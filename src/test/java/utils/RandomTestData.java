@@ -1,48 +1,47 @@
 package utils;
 
-import com.github.javafaker.Faker;
 import models.swager.*;
 
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.Collections;
-import java.util.Random;
+import java.util.random.RandomGenerator;
 
 
 public class RandomTestData {
-    private static Random random = new Random();
-    private static Faker faker = new Faker();
     private static GamesItem getRandomGame(){
+        RandomGenerator random = Randoms.current();
         SimilarDlc similarDlc = SimilarDlc.builder()
                 .isFree(false)
-                .dlcNameFromAnotherGame(faker.funnyName().name())
+                .dlcNameFromAnotherGame(DataPools.funnyName())
                 .build();
 
         DlcsItem dlcsItem = DlcsItem.builder()
-                .rating(faker.random().nextInt(10))
-                .price(faker.random().nextInt(1,500))
-                .description(faker.funnyName().name())
-                .dlcName(faker.dragonBall().character())
+                .rating(random.nextInt(10))
+                .price(random.nextInt(1, 501))
+                .description(DataPools.funnyName())
+                .dlcName(DataPools.dragonBallCharacter())
                 .isDlcFree(false)
                 .similarDlc(similarDlc)
                 .build();
 
         Requirements requirements = Requirements.builder()
-                .ramGb(faker.random().nextInt(4,16))
+                .ramGb(random.nextInt(4, 17))
                 .osName("Windows")
-                .hardDrive(faker.random().nextInt(30,70))
+                .hardDrive(random.nextInt(30, 71))
                 .videoCard("Nvidia")
                 .build();
 
         return GamesItem.builder()
+                .gameId(random.nextInt(1, Integer.MAX_VALUE))
                 .requirements(requirements)
-                .genre(faker.book().genre())
+                .genre(DataPools.genre())
                 .price(random.nextInt(400))
                 .description("CS GOO")
-                .company(faker.company().name())
+                .company(DataPools.company())
                 .isFree(false)
-                .title(faker.beer().name())
-                .rating(faker.random().nextInt(10))
+                .title(DataPools.beerName())
+                .rating(random.nextInt(10))
                 .publishDate(LocalDateTime.now().toString())
                 .requiredAge(random.nextBoolean())
                 .tags(Arrays.asList("shooter", "quests"))
@@ -51,20 +50,18 @@ public class RandomTestData {
     }
 
     public static FullUser getRandomUserWithGames(){
-        int randomNumber = Math.abs(random.nextInt());
         GamesItem gamesItem = getRandomGame();
 
         return FullUser.builder()
-                .login(faker.name().username() + randomNumber)
-                .pass(faker.internet().password())
+                .login(DataPools.username() + UniqueIds.next())
+                .pass(DataPools.password())
                 .games(Collections.singletonList(gamesItem))
                 .build();
     }
 
     public static FullUser getRandomUser(){
-        int randomNumber = Math.abs(random.nextInt());
         return FullUser.builder()
-                .login("testUserLogin" + randomNumber)
+                .login("testUserLogin" + UniqueIds.next())
                 .pass("testpass")
                 .build();
     }
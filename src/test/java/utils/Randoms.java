@@ -0,0 +1,31 @@
+package utils;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.random.RandomGenerator;
+
+/**
+ * Per-thread random source for test data. Without {@code testdata.seed} this is
+ * {@link ThreadLocalRandom}; with it, every thread gets its own {@link SplittableRandom}
+ * split from one seeded root, so a run with the same seed and thread order repeats exactly.
+ */
+public class Randoms {
+    private static final Long SEED = Long.getLong("testdata.seed");
+    private static final SplittableRandom ROOT = SEED == null ? null : new SplittableRandom(SEED);
+    private static final ThreadLocal<SplittableRandom> SEEDED = ThreadLocal.withInitial(Randoms::split);
+
+    private Randoms() {
+    }
+
+    public static RandomGenerator current() {
+        return ROOT == null ? ThreadLocalRandom.current() : SEEDED.get();
+    }
+
+    public static long seed() {
+        return SEED == null ? ThreadLocalRandom.current().nextLong() : SEED;
+    }
+
+    private static synchronized SplittableRandom split() {
+        return ROOT.split();
+    }
+}
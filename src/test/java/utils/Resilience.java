@@ -0,0 +1,194 @@
+package utils;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.function.ToIntFunction;
+
+/**
+ * Retry with jittered backoff for idempotent calls and a circuit breaker shared by all
+ * transports. Each attempt is a complete new exchange; {@code api.resilience=false} disables it.
+ */
+public class Resilience {
+    private static final boolean ENABLED = Boolean.parseBoolean(System.getProperty("api.resilience", "true"));
+    private static final int MAX_ATTEMPTS = Integer.getInteger("api.resilience.maxAttempts", 3);
+    private static final long BASE_BACKOFF_MS = Long.getLong("api.resilience.backoffMs", 100);
+    private static final long MAX_BACKOFF_MS = Long.getLong("api.resilience.maxBackoffMs", 2_000);
+    private static final long DEADLINE_MS = Long.getLong("api.resilience.deadlineMs", 60_000);
+    private static final int BREAKER_FAILURES = Integer.getInteger("api.breaker.failures", 5);
+    private static final long BREAKER_OPEN_MS = Long.getLong("api.breaker.openMs", 30_000);
+    private static final Set<String> IDEMPOTENT = Set.of("GET", "HEAD", "OPTIONS");
+    private static final Set<Integer> RETRYABLE_STATUS = Set.of(502, 503, 504);
+    private static final ThreadLocal<Attempt> CURRENT = new ThreadLocal<>();
+    private static final Resilience INSTANCE = new Resilience();
+
+    private final LongAdder calls = new LongAdder();
+    private final LongAdder retries = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+    private final LongAdder breakerOpened = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private int consecutiveFailures;
+    private long openUntil;
+    private boolean trialInFlight;
+
+    private Resilience() {
+    }
+
+    public static Resilience shared() {
+        return INSTANCE;
+    }
+
+    /**
+     * Whether the attempt running on this thread will be repeated after a response with
+     * {@code statusCode}. Lets reporting filters skip attempts that are not the final answer.
+     */
+    public static boolean retryPlanned(int statusCode) {
+        Attempt attempt = CURRENT.get();
+        return attempt != null && attempt.decide(statusCode);
+    }
+
+    public <T> T call(String method, String target, Supplier<T> exchange, ToIntFunction<T> statusOf, Consumer<T> discard) {
+        if (!ENABLED) {
+            return exchange.get();
+        }
+        calls.increment();
+        acquire(method, target);
+        Attempt previous = CURRENT.get();
+        Attempt attempt = new Attempt(IDEMPOTENT.contains(method), System.currentTimeMillis() + DEADLINE_MS);
+        try {
+            while (true) {
+                CURRENT.set(attempt);
+                T result;
+                try {
+                    result = exchange.get();
+                } catch (Exception e) {
+                    if (!isTransportError(e)) {
+                        abandon();
+                        throw e;
+                    }
+                    if (!attempt.canRetry()) {
+                        release(false);
+                        throw e;
+                    }
+                    backoff(attempt);
+                    continue;
+                }
+                int status = statusOf.applyAsInt(result);
+                if (!RETRYABLE_STATUS.contains(status)) {
+                    release(true);
+                    return result;
+                }
+                if (!attempt.decide(status)) {
+                    release(false);
+                    return result;
+                }
+                discard.accept(result);
+                backoff(attempt);
+            }
+        } finally {
+            if (previous == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(previous);
+            }
+        }
+    }
+
+    public Map<String, Long> metrics() {
+        Map<String, Long> metrics = new LinkedHashMap<>();
+        metrics.put("calls", calls.sum());
+        metrics.put("retries", retries.sum());
+        metrics.put("failures", failures.sum());
+        metrics.put("breaker_opened", breakerOpened.sum());
+        metrics.put("breaker_rejected", rejected.sum());
+        return metrics;
+    }
+
+    private void backoff(Attempt attempt) {
+        retries.increment();
+        try {
+            Thread.sleep(ThreadLocalRandom.current().nextLong(attempt.ceiling() + 1));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while backing off", e);
+        }
+        attempt.next();
+    }
+
+    private synchronized void acquire(String method, String target) {
+        if (openUntil == 0) {
+            return;
+        }
+        if (System.currentTimeMillis() < openUntil || trialInFlight) {
+            rejected.increment();
+            throw new IllegalStateException("Circuit breaker is open after " + consecutiveFailures
+                    + " consecutive failures, not calling " + method + " " + target);
+        }
+        trialInFlight = true;
+    }
+
+    private synchronized void release(boolean success) {
+        trialInFlight = false;
+        if (success) {
+            consecutiveFailures = 0;
+            openUntil = 0;
+            return;
+        }
+        failures.increment();
+        consecutiveFailures++;
+        if (openUntil != 0 || consecutiveFailures >= BREAKER_FAILURES) {
+            openUntil = System.currentTimeMillis() + BREAKER_OPEN_MS;
+            breakerOpened.increment();
+        }
+    }
+
+    private synchronized void abandon() {
+        trialInFlight = false;
+    }
+
+    private static boolean isTransportError(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof IOException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static class Attempt {
+        private final boolean idempotent;
+        private final long deadline;
+        private int number = 1;
+        private Boolean planned;
+
+        Attempt(boolean idempotent, long deadline) {
+            this.idempotent = idempotent;
+            this.deadline = deadline;
+        }
+
+        boolean decide(int statusCode) {
+            if (planned == null) {
+                planned = RETRYABLE_STATUS.contains(statusCode) && canRetry();
+            }
+            return planned;
+        }
+
+        boolean canRetry() {
+            return idempotent && number < MAX_ATTEMPTS && System.currentTimeMillis() + ceiling() < deadline;
+        }
+
+        long ceiling() {
+            return Math.min(MAX_BACKOFF_MS, BASE_BACKOFF_MS << Math.min(number - 1, 20));
+        }
+
+        void next() {
+            number++;
+            planned = null;
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package utils;
+
+import java.security.SecureRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Login ids unique across threads, forks and runs: a random per-JVM prefix and a counter,
+ * not affected by {@code testdata.seed}.
+ */
+public class UniqueIds {
+    private static final int INSTANCE_CHARS = 10;
+    private static final String INSTANCE = instance(new SecureRandom().nextLong() & ((1L << 50) - 1));
+    private static final AtomicLong COUNTER = new AtomicLong();
+
+    private UniqueIds() {
+    }
+
+    public static String next() {
+        return INSTANCE + Long.toString(COUNTER.getAndIncrement(), Character.MAX_RADIX);
+    }
+
+    static String instance(long bits) {
+        String instance = Long.toString(bits, Character.MAX_RADIX);
+        return "0".repeat(INSTANCE_CHARS - instance.length()) + instance;
+    }
+}